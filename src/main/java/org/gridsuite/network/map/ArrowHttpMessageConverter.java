@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Writes lists of elements infos as an Apache Arrow IPC stream, one column per property of the infos classes: the
+ * integers, decimals and booleans as primitive vectors, the texts and the objects (as JSON) as UTF-8 vectors. The
+ * schema is derived once per infos class from the types of its properties, so that it doesn't depend on the values of
+ * the elements, and the vectors are filled from the getters of the infos by record batches of {@link #BATCH_SIZE}
+ * elements.
+ * <p>
+ * The sparse fieldsets apply: only the columns of the requested fields are written.
+ */
+@Component
+public class ArrowHttpMessageConverter extends AbstractGenericHttpMessageConverter<List<ElementInfos>> {
+    public static final String APPLICATION_ARROW_STREAM_VALUE = "application/vnd.apache.arrow.stream";
+
+    public static final MediaType APPLICATION_ARROW_STREAM = MediaType.parseMediaType(APPLICATION_ARROW_STREAM_VALUE);
+
+    private static final int BATCH_SIZE = 10000;
+
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentMap<Class<?>, Map<String, AnnotatedMember>> accessorsByClass = new ConcurrentHashMap<>();
+
+    public ArrowHttpMessageConverter(ObjectMapper objectMapper) {
+        super(APPLICATION_ARROW_STREAM);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(@NonNull Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, @NonNull Class<?> clazz, @Nullable MediaType mediaType) {
+        if (!canWrite(mediaType) || !supports(clazz)) {
+            return false;
+        }
+        // the declared type of the returned value, only the lists of elements infos being supported
+        Class<?> elementClass = type != null ? ResolvableType.forType(type).asCollection().resolveGeneric(0) : null;
+        return elementClass != null && ElementInfos.class.isAssignableFrom(elementClass);
+    }
+
+    @Override
+    public List<ElementInfos> read(@NonNull Type type, @Nullable Class<?> contextClass, @NonNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Arrow streams cannot be read", inputMessage);
+    }
+
+    @Override
+    protected List<ElementInfos> readInternal(@NonNull Class<? extends List<ElementInfos>> clazz, @NonNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Arrow streams cannot be read", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull List<ElementInfos> elementsInfos, @Nullable Type type, @NonNull HttpOutputMessage outputMessage) throws IOException {
+        Map<String, ArrowType> columnsTypes = getColumnsTypes(elementsInfos, getRequestedFields());
+        List<String> columnsNames = List.copyOf(columnsTypes.keySet());
+        Schema schema = new Schema(columnsNames.stream().map(name -> Field.nullable(name, columnsTypes.get(name))).toList());
+
+        try (BufferAllocator allocator = new RootAllocator();
+             VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+             ArrowStreamWriter writer = new ArrowStreamWriter(root, null, Channels.newChannel(outputMessage.getBody()))) {
+            writer.start();
+            for (int start = 0; start < elementsInfos.size(); start += BATCH_SIZE) {
+                int rowCount = Math.min(BATCH_SIZE, elementsInfos.size() - start);
+                root.allocateNew();
+                // the values not set are null, the validity buffers being cleared by the allocation
+                for (int row = 0; row < rowCount; row++) {
+                    ElementInfos elementInfos = elementsInfos.get(start + row);
+                    Map<String, AnnotatedMember> accessors = getAccessors(elementInfos.getClass());
+                    for (int i = 0; i < columnsNames.size(); i++) {
+                        AnnotatedMember accessor = accessors.get(columnsNames.get(i));
+                        if (accessor != null) {
+                            setValue(root.getVector(i), row, accessor.getValue(elementInfos));
+                        }
+                    }
+                }
+                root.getFieldVectors().forEach(vector -> vector.setValueCount(rowCount));
+                root.setRowCount(rowCount);
+                writer.writeBatch();
+            }
+            writer.end();
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            throw new HttpMessageNotWritableException("Could not write the Arrow stream", e);
+        }
+    }
+
+    @Nullable
+    private static Set<String> getRequestedFields() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes ?
+                SparseFieldsResponseBodyAdvice.getFields(attributes.getRequest()) : null;
+    }
+
+    /**
+     * The types of the requested columns (all of them if {@code fields} is {@code null} or empty, the id being always
+     * kept), in the order of the properties of the classes of the infos.
+     */
+    private Map<String, ArrowType> getColumnsTypes(List<ElementInfos> elementsInfos, @Nullable Set<String> fields) {
+        Map<String, ArrowType> columnsTypes = new LinkedHashMap<>();
+        elementsInfos.stream().map(Object::getClass).distinct().forEach(infosClass ->
+                getAccessors(infosClass).forEach((name, accessor) -> {
+                    if (fields == null || fields.isEmpty() || fields.contains(name) || "id".equals(name)) {
+                        columnsTypes.putIfAbsent(name, getArrowType(accessor.getType()));
+                    }
+                }));
+        return columnsTypes;
+    }
+
+    /**
+     * The accessors of the serialized properties of an infos class, by property name.
+     */
+    private Map<String, AnnotatedMember> getAccessors(Class<?> infosClass) {
+        return accessorsByClass.computeIfAbsent(infosClass, clazz -> {
+            BeanDescription description = objectMapper.getSerializationConfig().introspect(objectMapper.constructType(clazz));
+            Map<String, AnnotatedMember> accessors = new LinkedHashMap<>();
+            description.findProperties().stream()
+                    .filter(BeanPropertyDefinition::couldSerialize)
+                    .forEach(property -> accessors.put(property.getName(), property.getAccessor()));
+            return accessors;
+        });
+    }
+
+    /**
+     * The type of a column, from the declared type of its property, the optional values being typed by their content.
+     */
+    private static ArrowType getArrowType(JavaType propertyType) {
+        Class<?> valueClass = ClassUtils.resolvePrimitiveIfNecessary((propertyType.isReferenceType() ? propertyType.getContentType() : propertyType).getRawClass());
+        if (valueClass == Long.class || valueClass == Integer.class || valueClass == Short.class || valueClass == Byte.class) {
+            return new ArrowType.Int(64, true);
+        } else if (valueClass == Double.class || valueClass == Float.class) {
+            return new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+        } else if (valueClass == Boolean.class) {
+            return ArrowType.Bool.INSTANCE;
+        }
+        return ArrowType.Utf8.INSTANCE;
+    }
+
+    private void setValue(FieldVector vector, int row, @Nullable Object value) {
+        Object presentValue = value instanceof Optional<?> optional ? optional.orElse(null) : value;
+        if (presentValue == null) {
+            return;
+        }
+        if (vector instanceof BigIntVector bigIntVector) {
+            bigIntVector.setSafe(row, ((Number) presentValue).longValue());
+        } else if (vector instanceof Float8Vector float8Vector) {
+            float8Vector.setSafe(row, ((Number) presentValue).doubleValue());
+        } else if (vector instanceof BitVector bitVector) {
+            bitVector.setSafe(row, Boolean.TRUE.equals(presentValue) ? 1 : 0);
+        } else if (vector instanceof VarCharVector varCharVector) {
+            varCharVector.setSafe(row, toText(presentValue).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * The texts as they are, the other values (enums, objects) as they are serialized in JSON.
+     */
+    private String toText(Object value) {
+        if (value instanceof String text) {
+            return text;
+        }
+        JsonNode node = objectMapper.valueToTree(value);
+        return node.isTextual() ? node.textValue() : node.toString();
+    }
+}
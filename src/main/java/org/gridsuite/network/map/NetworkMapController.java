@@ -6,6 +6,12 @@
  */
 package org.gridsuite.network.map;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.ThreeSides;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,22 +19,50 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 import org.gridsuite.network.map.dto.AllElementsInfos;
+import org.gridsuite.network.map.dto.ColumnarElementsInfos;
 import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementLookup;
 import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.ElementsDeltaInfos;
+import org.gridsuite.network.map.dto.ElementsIdsQuery;
+import org.gridsuite.network.map.dto.EquipmentLocationInfos;
 import org.gridsuite.network.map.dto.InfoTypeParameters;
+import org.gridsuite.network.map.dto.NetworkWarmupInfos;
 import org.gridsuite.network.map.dto.definition.hvdc.HvdcShuntCompensatorsInfos;
 import org.gridsuite.network.map.dto.definition.topology.BusBarSectionsInfos;
 import org.gridsuite.network.map.dto.definition.topology.FeederBayInfos;
 import org.gridsuite.network.map.dto.definition.topology.SwitchInfos;
+import org.gridsuite.network.map.dto.utils.ColumnarUtils;
+import org.gridsuite.network.map.services.ElementFragmentCache;
+import org.gridsuite.network.map.services.ElementsChangesSubscriptions;
 import org.gridsuite.network.map.services.NetworkMapService;
+import org.gridsuite.network.map.services.NetworkRevisionETags;
+import org.gridsuite.network.map.services.ResponseCache;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import static org.gridsuite.network.map.ArrowHttpMessageConverter.APPLICATION_ARROW_STREAM_VALUE;
+import static org.gridsuite.network.map.BinaryFormatsConfig.APPLICATION_SMILE_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -42,7 +76,17 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class NetworkMapController {
     private final NetworkMapService networkMapService;
 
-    @PostMapping(value = "/networks/{networkUuid}/elements-ids", produces = APPLICATION_JSON_VALUE)
+    private final ObjectMapper objectMapper;
+
+    private final ElementFragmentCache elementFragmentCache;
+
+    private final ResponseCache responseCache;
+
+    private final NetworkRevisionETags networkRevisionETags;
+
+    private final ElementsChangesSubscriptions elementsChangesSubscriptions;
+
+    @PostMapping(value = "/networks/{networkUuid}/elements-ids", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @Operation(summary = "Get elements ids")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Equipments ids")})
     public List<String> getElementsIds(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
@@ -53,29 +97,195 @@ public class NetworkMapController {
         return networkMapService.getElementsIds(networkUuid, variantId, substationsIds.orElseGet(List::of), elementType, nominalVoltages);
     }
 
-    @PostMapping(value = "/networks/{networkUuid}/all", produces = APPLICATION_JSON_VALUE)
-    @Operation(summary = "Get all equipments descriptions")
+    @PostMapping(value = "/networks/{networkUuid}/elements-ids/query", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Get the ids of the elements selected by filters, by element type")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Equipments ids by type")})
+    public Map<ElementType, List<String>> getElementsIds(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
+                                                         @Parameter(description = "Variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                         @Parameter(description = "Filters of the elements included, and of the elements excluded") @RequestBody ElementsIdsQuery query) {
+        return networkMapService.getElementsIds(networkUuid, variantId, query);
+    }
+
+    @PostMapping(value = "/networks/{networkUuid}/elements-ids/query/count", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Count the elements selected by filters, by element type")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Equipments count by type")})
+    public Map<ElementType, Integer> countElements(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
+                                                   @Parameter(description = "Variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                   @Parameter(description = "Filters of the elements included, and of the elements excluded") @RequestBody ElementsIdsQuery query) {
+        return networkMapService.countElements(networkUuid, variantId, query);
+    }
+
+    @PostMapping(value = "/networks/{networkUuid}/all", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Get all equipments descriptions",
+            description = "The infos of each element type are of the info type given by the infoType key of its additional parameters, TAB by default. " +
+                    "Only the sections of the requested element types are returned, the other sections being left out of the response")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "all equipments descriptions")})
     public AllElementsInfos getAll(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
                                    @Parameter(description = "Variant Id") @RequestParam(name = "variantId", required = false) String variantId,
                                    @Parameter(description = "Substations id") @RequestParam(name = "substationId", defaultValue = "") List<String> substationsIds,
-                                   @RequestBody Map<String, Map<String, String>> additionalParametersByType) {
-        return networkMapService.getAllElementsInfos(networkUuid, variantId, substationsIds, additionalParametersByType);
+                                   @Parameter(description = "Element types, all if empty") @RequestParam(name = "elementType", defaultValue = "") List<ElementType> elementTypes,
+                                   @Parameter(description = "Additional parameters by element type, including its info type (infoType, TAB by default)") @RequestBody Map<String, Map<String, String>> additionalParametersByType,
+                                   @Parameter(description = "Return the voltage levels and substations attributes once, in lookup tables referenced by the elements") @RequestParam(name = "normalized", defaultValue = "false") boolean normalized,
+                                   @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+                                   HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
+        if (networkRevisionETags.checkNotModified(request, response, networkUuid, variantId, additionalParametersByType)) {
+            return null;
+        }
+        if (!normalized && elementFragmentCache.isEnabled() && isJsonAccepted(accept)) {
+            Map<ElementType, List<byte[]>> sections = networkMapService.getAllElementsFragments(networkUuid, variantId, substationsIds, elementTypes,
+                    additionalParametersByType, getFragmentSerializer(null));
+            response.setContentType(APPLICATION_JSON_VALUE);
+            OutputStream outputStream = response.getOutputStream();
+            outputStream.write('{');
+            boolean first = true;
+            for (Map.Entry<ElementType, List<byte[]>> section : sections.entrySet()) {
+                if (!first) {
+                    outputStream.write(',');
+                }
+                first = false;
+                outputStream.write(('"' + AllElementsInfos.getSectionName(section.getKey()) + "\":").getBytes(StandardCharsets.UTF_8));
+                writeFragments(outputStream, section.getValue());
+            }
+            outputStream.write('}');
+            // the response being written, the request is handled (see the response parameter)
+            return null;
+        }
+        return networkMapService.getAllElementsInfos(networkUuid, variantId, substationsIds, elementTypes, additionalParametersByType, normalized);
+    }
+
+    @PostMapping(value = "/networks/{networkUuid}/all", params = "streaming=true", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get all equipments descriptions, writing each one as soon as it is computed")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "all equipments descriptions")})
+    public void streamAll(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
+                          @Parameter(description = "Variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                          @Parameter(description = "Substations id") @RequestParam(name = "substationId", defaultValue = "") List<String> substationsIds,
+                          @Parameter(description = "Element types, all if empty") @RequestParam(name = "elementType", defaultValue = "") List<ElementType> elementTypes,
+                          @Parameter(description = "Additional parameters by element type, including its info type (infoType, TAB by default)") @RequestBody Map<String, Map<String, String>> additionalParametersByType,
+                          HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_JSON_VALUE);
+        ObjectWriter writer = getStreamingWriter(null);
+        // not closed on errors: the buffered start of the object is then dropped and the error can still be returned
+        JsonGenerator generator = writer.createGenerator(response.getOutputStream());
+        generator.writeStartObject();
+        networkMapService.streamAllElementsInfos(networkUuid, variantId, substationsIds, elementTypes, additionalParametersByType, (elementType, elementsInfos) -> {
+            try {
+                generator.writeArrayFieldStart(AllElementsInfos.getSectionName(elementType));
+                elementsInfos.forEach(elementInfos -> write(writer, generator, elementInfos));
+                generator.writeEndArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.writeEndObject();
+        generator.close();
     }
 
-    @PostMapping(value = "/networks/{networkUuid}/elements", produces = APPLICATION_JSON_VALUE)
-    @Operation(summary = "Get network elements")
+    @PostMapping(value = "/networks/{networkUuid}/elements", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_ARROW_STREAM_VALUE})
+    @Operation(summary = "Get network elements, as JSON or as an Apache Arrow stream depending on the accepted media type")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Elements description")})
     public List<ElementInfos> getElementsInfos(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
                                                @Parameter(description = "Variant Id") @RequestParam(name = "variantId", required = false) String variantId,
                                                @Parameter(description = "Nominal Voltages") @RequestParam(name = "nominalVoltages", required = false) List<Double> nominalVoltages,
                                                @Parameter(description = "Element type") @RequestParam(name = "elementType") ElementType elementType,
                                                @Parameter(description = "Info type parameters") InfoTypeParameters infoTypeParameters,
+                                               @RequestBody(required = false) Optional<List<String>> substationsIds,
+                                               @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+                                               @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                               HttpServletRequest request,
+                                               HttpServletResponse response) throws IOException {
+        List<String> substationsIdsList = substationsIds.orElseGet(List::of);
+        if (networkRevisionETags.checkNotModified(request, response, networkUuid, variantId, substationsIdsList)) {
+            return null;
+        }
+        if (isJsonAccepted(accept) && responseCache.isCached(infoTypeParameters)) {
+            writeCachedResponse(response, networkMapService.getCachedElementsResponse(networkUuid, variantId, substationsIdsList, elementType, infoTypeParameters, nominalVoltages,
+                    () -> getElementsJson(networkUuid, variantId, substationsIdsList, elementType, infoTypeParameters, nominalVoltages)), acceptEncoding);
+            // the response being written, the request is handled (see the response parameter)
+            return null;
+        }
+        if (isJsonAccepted(accept) && elementFragmentCache.isEnabled()) {
+            List<byte[]> fragments = networkMapService.getElementsFragments(networkUuid, variantId, substationsIdsList, elementType,
+                    infoTypeParameters, nominalVoltages, getFragmentSerializer(infoTypeParameters));
+            response.setContentType(APPLICATION_JSON_VALUE);
+            writeFragments(response.getOutputStream(), fragments);
+            return null;
+        }
+        return networkMapService.getElementsInfos(networkUuid, variantId, substationsIdsList, elementType, infoTypeParameters, nominalVoltages);
+    }
+
+    @PostMapping(value = "/networks/{networkUuid}/elements", params = {"format=columnar", "streaming!=true"}, produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Get network elements as one array of values per field, the repeated texts and objects being dictionary encoded")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Elements description")})
+    public ColumnarElementsInfos getColumnarElementsInfos(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
+                                                          @Parameter(description = "Variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                          @Parameter(description = "Nominal Voltages") @RequestParam(name = "nominalVoltages", required = false) List<Double> nominalVoltages,
+                                                          @Parameter(description = "Element type") @RequestParam(name = "elementType") ElementType elementType,
+                                                          @Parameter(description = "Info type parameters") InfoTypeParameters infoTypeParameters,
+                                                          @RequestBody(required = false) Optional<List<String>> substationsIds,
+                                                          HttpServletRequest request,
+                                                          HttpServletResponse response) {
+        if (networkRevisionETags.checkNotModified(request, response, networkUuid, variantId, substationsIds.orElseGet(List::of))) {
+            return null;
+        }
+        return ColumnarUtils.toColumnar(networkMapService.getElementsInfos(networkUuid, variantId, substationsIds.orElseGet(List::of), elementType, infoTypeParameters, nominalVoltages),
+                objectMapper, infoTypeParameters.getFields());
+    }
+
+    @PostMapping(value = "/networks/{networkUuid}/elements", params = "streaming=true", produces = {APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Get network elements, writing each one as soon as it is computed, as a JSON array or as newline delimited JSON depending on the accepted media type")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Elements description")})
+    public void streamElementsInfos(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
+                                    @Parameter(description = "Variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                    @Parameter(description = "Nominal Voltages") @RequestParam(name = "nominalVoltages", required = false) List<Double> nominalVoltages,
+                                    @Parameter(description = "Element type") @RequestParam(name = "elementType") ElementType elementType,
+                                    @Parameter(description = "Info type parameters") InfoTypeParameters infoTypeParameters,
+                                    @RequestBody(required = false) Optional<List<String>> substationsIds,
+                                    @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+                                    HttpServletResponse response) throws IOException {
+        boolean ndjson = accept != null && MediaType.parseMediaTypes(accept).stream().anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        response.setContentType(ndjson ? APPLICATION_NDJSON_VALUE : APPLICATION_JSON_VALUE);
+        ObjectWriter writer = getStreamingWriter(infoTypeParameters);
+        // not closed on errors: the buffered start of the array is then dropped and the error can still be returned
+        SequenceWriter sequenceWriter = ndjson ?
+                writer.withRootValueSeparator("\n").writeValues(response.getOutputStream()) :
+                writer.writeValuesAsArray(response.getOutputStream());
+        networkMapService.streamElementsInfos(networkUuid, variantId, substationsIds.orElseGet(List::of), elementType, infoTypeParameters, nominalVoltages,
+            elementInfos -> {
+                try {
+                    sequenceWriter.write(elementInfos);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        sequenceWriter.close();
+    }
+
+    @PostMapping(value = "/networks/{networkUuid}/elements-delta", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Get the network elements added, modified and removed since a previous response, identified by its token")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Elements changes, and the token of this response")})
+    public ElementsDeltaInfos getElementsDelta(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
+                                               @Parameter(description = "Variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                               @Parameter(description = "Nominal Voltages") @RequestParam(name = "nominalVoltages", required = false) List<Double> nominalVoltages,
+                                               @Parameter(description = "Element type") @RequestParam(name = "elementType") ElementType elementType,
+                                               @Parameter(description = "Token of the previous response, all the elements being returned if none is given") @RequestParam(name = "token", required = false) String token,
+                                               @Parameter(description = "Info type parameters") InfoTypeParameters infoTypeParameters,
                                                @RequestBody(required = false) Optional<List<String>> substationsIds) {
-        return networkMapService.getElementsInfos(networkUuid, variantId, substationsIds.orElseGet(List::of), elementType, infoTypeParameters, nominalVoltages);
+        return networkMapService.getElementsDelta(networkUuid, variantId, substationsIds.orElseGet(List::of), elementType, infoTypeParameters, nominalVoltages,
+                token, getFragmentSerializer(infoTypeParameters));
     }
 
-    @GetMapping(value = "/networks/{networkUuid}/elements/{elementId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/networks/{networkUuid}/elements-changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to the changes of the network elements: all the elements are sent first, then the ones added, modified and removed each time the network changes")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Server-sent events, one per element type having changes")})
+    public SseEmitter subscribeElementsChanges(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
+                                               @Parameter(description = "Variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                               @Parameter(description = "Element types") @RequestParam(name = "elementType") List<ElementType> elementTypes,
+                                               @Parameter(description = "Info type parameters") InfoTypeParameters infoTypeParameters) {
+        return elementsChangesSubscriptions.subscribe(networkUuid, variantId, elementTypes, infoTypeParameters, getFragmentSerializer(infoTypeParameters));
+    }
+
+    @GetMapping(value = "/networks/{networkUuid}/elements/{elementId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @Operation(summary = "Get network element infos")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Element description")})
     public ElementInfos getElementInfos(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
@@ -86,9 +296,9 @@ public class NetworkMapController {
         return networkMapService.getElementInfos(networkUuid, variantId, elementType, infoTypeParameters, elementId);
     }
 
-    @PostMapping(value = "/networks/{networkUuid}/elements-by-ids", produces = APPLICATION_JSON_VALUE)
-    @Operation(summary = "Get network elements by IDs")
-    @ApiResponse(responseCode = "200", description = "List of elements")
+    @PostMapping(value = "/networks/{networkUuid}/elements-by-ids", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Get network elements by IDs", description = "The elements are returned in the order of the requested IDs, the unknown and duplicate IDs being ignored")
+    @ApiResponse(responseCode = "200", description = "List of elements, in the order of the requested IDs")
     public List<ElementInfos> getElementsByIds(
             @Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
             @Parameter(description = "Variant ID") @RequestParam(name = "variantId", required = false) String variantId,
@@ -99,7 +309,36 @@ public class NetworkMapController {
                 networkUuid, variantId, elementType, infoTypeParameters, elementIds);
     }
 
-    @GetMapping(value = "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/buses-or-busbar-sections", produces = APPLICATION_JSON_VALUE)
+    @PostMapping(value = "/networks/{networkUuid}/elements-batch", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Get network elements of several types by IDs, grouped by type")
+    @ApiResponse(responseCode = "200", description = "Elements by type")
+    public Map<ElementType, List<ElementInfos>> getElementsBatch(
+            @Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
+            @Parameter(description = "Variant ID") @RequestParam(name = "variantId", required = false) String variantId,
+            @Parameter(description = "Info type parameters, the info type being the one of the elements without one (TAB by default)") InfoTypeParameters infoTypeParameters,
+            @Parameter(description = "Elements IDs, with their type (detected if missing, except for buses) and info type") @RequestBody List<ElementLookup> elementLookups) {
+        return networkMapService.getElementsInfosByLookups(networkUuid, variantId, infoTypeParameters, elementLookups);
+    }
+
+    @GetMapping(value = "/networks/{networkUuid}/locate/{equipmentId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Get the type, voltage levels and substations of an equipment")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Equipment location"), @ApiResponse(responseCode = "404", description = "Equipment not found")})
+    public EquipmentLocationInfos locate(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
+                                         @Parameter(description = "Equipment id") @PathVariable("equipmentId") String equipmentId,
+                                         @Parameter(description = "Variant Id") @RequestParam(name = "variantId", required = false) String variantId) {
+        return networkMapService.locate(networkUuid, variantId, equipmentId);
+    }
+
+    @PostMapping(value = "/networks/{networkUuid}/locate", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Get the type, voltage levels and substations of equipments, the ones not found being ignored")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Equipments locations")})
+    public List<EquipmentLocationInfos> locate(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
+                                               @Parameter(description = "Variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                               @Parameter(description = "Equipments ids") @RequestBody List<String> equipmentIds) {
+        return networkMapService.locate(networkUuid, variantId, equipmentIds);
+    }
+
+    @GetMapping(value = "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/buses-or-busbar-sections", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @Operation(summary = "Get buses or busbar sections description for a voltage level")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Buses or Busbar section description")})
     public List<ElementInfos> getVoltageLevelBusesOrBusBarSections(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
@@ -108,7 +347,7 @@ public class NetworkMapController {
         return networkMapService.getVoltageLevelBusesOrBusbarSections(networkUuid, voltageLevelId, variantId);
     }
 
-    @GetMapping(value = "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/feeder-bays", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/feeder-bays", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @Operation(summary = "get feeder bays and bus bar sections information")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = " feeder bays and bus bar sections information retrieved")})
     public Map<String, List<FeederBayInfos>> getFeederBaysInfos(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
@@ -117,7 +356,7 @@ public class NetworkMapController {
         return networkMapService.getFeederBaysInfos(networkUuid, voltageLevelId, variantId);
     }
 
-    @GetMapping(value = "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/bus-bar-sections", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/bus-bar-sections", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @Operation(summary = "get bus bar sections information")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "bus bar sections information retrieved")})
     public BusBarSectionsInfos getBusBarSectionsInfos(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
@@ -126,7 +365,7 @@ public class NetworkMapController {
         return networkMapService.getBusBarSectionsInfos(networkUuid, voltageLevelId, variantId);
     }
 
-    @GetMapping(value = "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/switches", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/switches", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @Operation(summary = "Get switches description for a voltage level")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Switches description")})
     public List<SwitchInfos> getVoltageLevelSwitches(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
@@ -144,7 +383,7 @@ public class NetworkMapController {
         return networkMapService.getVoltageLevelSubstationID(networkUuid, voltageLevelId, variantId);
     }
 
-    @GetMapping(value = "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/busbar-sections/ids", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/busbar-sections/ids", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @Operation(summary = "Get busbar sections ids for a voltage level")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Busbar section ids")})
     public List<String> getVoltageLevelBusBarSectionsIds(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
@@ -153,7 +392,7 @@ public class NetworkMapController {
         return networkMapService.getVoltageLevelBusbarSectionsIds(networkUuid, voltageLevelId, variantId);
     }
 
-    @GetMapping(value = "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/equipments", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/equipments", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @Operation(summary = "Get Voltage level equipments")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Voltage level equipments")})
     public List<ElementInfos> getVoltageLevelEquipments(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
@@ -178,7 +417,7 @@ public class NetworkMapController {
         return networkMapService.getBranchOr3WTVoltageLevelId(networkUuid, variantId, equipmentId, side);
     }
 
-    @GetMapping(value = "/networks/{networkUuid}/hvdc-lines/{hvdcId}/shunt-compensators", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/networks/{networkUuid}/hvdc-lines/{hvdcId}/shunt-compensators", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @Operation(summary = "For a given HVDC line, get its related shunt compensators in case of LCC converter station")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Hvdc line type and its shunt compensators on each side"),
@@ -196,17 +435,145 @@ public class NetworkMapController {
         @ApiResponse(responseCode = "200", description = "Countries are found the in substations of the network")
     })
     public List<Country> getCountries(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
-                                      @Parameter(description = "Variant ID") @RequestParam(name = "variantId", required = false) String variantId) {
+                                      @Parameter(description = "Variant ID") @RequestParam(name = "variantId", required = false) String variantId,
+                                      HttpServletRequest request,
+                                      HttpServletResponse response) {
+        if (networkRevisionETags.checkNotModified(request, response, networkUuid, variantId)) {
+            return null;
+        }
         return networkMapService.getCountries(networkUuid, variantId).stream().sorted(Comparator.comparing(Country::getName)).toList();
     }
 
+    @DeleteMapping(value = "/networks/{networkUuid}/cache")
+    @Operation(summary = "Evict a network from the cache of loaded networks")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "The network variant, or all the network variants if none is given, have been evicted from the cache")
+    })
+    public void evictNetwork(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
+                             @Parameter(description = "Variant ID") @RequestParam(name = "variantId", required = false) String variantId) {
+        networkMapService.evictNetwork(networkUuid, variantId);
+    }
+
+    @PostMapping(value = "/networks/{networkUuid}/warmup", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Load network variants with the collections needed by the map and spreadsheet views, and keep them in the cache of loaded networks")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The network variants have been warmed up, with the time spent on each of them")})
+    public NetworkWarmupInfos warmupNetwork(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
+                                            @Parameter(description = "Variants ids, the initial variant if none is given") @RequestParam(name = "variantId", defaultValue = "") List<String> variantIds,
+                                            @Parameter(description = "Element types, all the types of the map and spreadsheet views if none is given") @RequestParam(name = "elementType", defaultValue = "") List<ElementType> elementTypes) {
+        return networkMapService.warmup(networkUuid, variantIds, elementTypes);
+    }
+
     @GetMapping(value = "/networks/{networkUuid}/nominal-voltages")
     @Operation(summary = "Get the list of nominal voltages present in the network")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Nominal voltages are found the in voltage levels of the network")
     })
     public List<Double> getNominalVoltages(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
-                                           @Parameter(description = "Variant ID") @RequestParam(name = "variantId", required = false) String variantId) {
+                                           @Parameter(description = "Variant ID") @RequestParam(name = "variantId", required = false) String variantId,
+                                           HttpServletRequest request,
+                                           HttpServletResponse response) {
+        if (networkRevisionETags.checkNotModified(request, response, networkUuid, variantId)) {
+            return null;
+        }
         return networkMapService.getNominalVoltages(networkUuid, variantId).stream().sorted(Comparator.reverseOrder()).toList();
     }
+
+    /**
+     * Is JSON the format negotiated for the accepted media types? The first one accepted is chosen, JSON being the first
+     * format produced when any is accepted. When none is produced, the response is left to the content negotiation.
+     */
+    private static boolean isJsonAccepted(@Nullable String accept) {
+        if (accept == null) {
+            return true;
+        }
+        return MediaType.parseMediaTypes(accept).stream()
+                .filter(mediaType -> Stream.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, BinaryFormatsConfig.APPLICATION_SMILE, ArrowHttpMessageConverter.APPLICATION_ARROW_STREAM)
+                        .anyMatch(mediaType::isCompatibleWith))
+                .findFirst()
+                .map(mediaType -> mediaType.isCompatibleWith(MediaType.APPLICATION_JSON))
+                .orElse(false);
+    }
+
+    /**
+     * Serializes the infos of an element alone, as they are serialized in a list of elements.
+     */
+    private Function<ElementInfos, byte[]> getFragmentSerializer(@Nullable InfoTypeParameters infoTypeParameters) {
+        ObjectWriter writer = getStreamingWriter(infoTypeParameters);
+        return elementInfos -> {
+            try {
+                return writer.writeValueAsBytes(elementInfos);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    /**
+     * The elements serialized as a JSON array, assembled from their cached fragments when the fragment cache is enabled.
+     */
+    private byte[] getElementsJson(UUID networkUuid, String variantId, List<String> substationsIds, ElementType elementType,
+                                   InfoTypeParameters infoTypeParameters, List<Double> nominalVoltages) {
+        try {
+            if (elementFragmentCache.isEnabled()) {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                writeFragments(outputStream, networkMapService.getElementsFragments(networkUuid, variantId, substationsIds, elementType,
+                        infoTypeParameters, nominalVoltages, getFragmentSerializer(infoTypeParameters)));
+                return outputStream.toByteArray();
+            }
+            return getStreamingWriter(infoTypeParameters).writeValueAsBytes(
+                    networkMapService.getElementsInfos(networkUuid, variantId, substationsIds, elementType, infoTypeParameters, nominalVoltages));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a cached JSON response, compressed if it was compressed beforehand and the client accepts gzip.
+     */
+    private static void writeCachedResponse(HttpServletResponse response, ResponseCache.CachedResponse cachedResponse, @Nullable String acceptEncoding) throws IOException {
+        byte[] body = cachedResponse.body();
+        response.setContentType(APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cachedResponse.gzipBody() != null && isGzipAccepted(acceptEncoding)) {
+            body = cachedResponse.gzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean isGzipAccepted(@Nullable String acceptEncoding) {
+        return acceptEncoding != null && Arrays.stream(acceptEncoding.split(","))
+                .map(encoding -> encoding.trim().split(";"))
+                .anyMatch(encoding -> "gzip".equalsIgnoreCase(encoding[0].trim())
+                        && Arrays.stream(encoding).skip(1).map(String::trim).noneMatch(parameter -> parameter.matches("q=0(\\.0*)?")));
+    }
+
+    private static void writeFragments(OutputStream outputStream, List<byte[]> fragments) throws IOException {
+        outputStream.write('[');
+        for (int i = 0; i < fragments.size(); i++) {
+            if (i > 0) {
+                outputStream.write(',');
+            }
+            outputStream.write(fragments.get(i));
+        }
+        outputStream.write(']');
+    }
+
+    /**
+     * The writer of the streamed elements, which are flushed by the servlet output buffer rather than one by one.
+     */
+    private ObjectWriter getStreamingWriter(@Nullable InfoTypeParameters infoTypeParameters) {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        FilterProvider filterProvider = infoTypeParameters != null ? SparseFieldsConfig.getFilterProvider(infoTypeParameters.getFields()) : null;
+        return filterProvider != null ? writer.with(filterProvider) : writer;
+    }
+
+    private static void write(ObjectWriter writer, JsonGenerator generator, ElementInfos elementInfos) {
+        try {
+            writer.writeValue(generator, elementInfos);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
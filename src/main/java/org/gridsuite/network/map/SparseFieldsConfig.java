@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.gridsuite.network.map.dto.AllElementsInfos;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementType;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Serialization of the sparse fieldsets: when a client only requests some fields of the elements, the other fields are
+ * not written in the response (see {@link SparseFieldsResponseBodyAdvice}). All the fields are written otherwise.
+ * <p>
+ * The elements of a normalized {@link AllElementsInfos} are also filtered: the attributes of their voltage levels and
+ * substations, written once in its lookup tables, are not written in each element.
+ */
+@Configuration
+public class SparseFieldsConfig {
+    private static final String FILTER_ID = "sparseFields";
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsCustomizer() {
+        return builder -> builder
+                .mixIn(ElementInfos.class, ElementInfosMixIn.class)
+                .filters(new SimpleFilterProvider()
+                        .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                        .addFilter(FILTER_ID, new ElementInfosFilter(null)));
+    }
+
+    /**
+     * The filters only writing the requested fields of the returned elements, {@code null} if all the fields are requested.
+     */
+    @Nullable
+    static FilterProvider getFilterProvider(@Nullable Collection<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+        return new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .addFilter(FILTER_ID, new ElementInfosFilter(Set.copyOf(fields)));
+    }
+
+    @JsonFilter(FILTER_ID)
+    private abstract static class ElementInfosMixIn {
+    }
+
+    /**
+     * Only filters the requested fields of the returned elements, not the ones of the elements they contain (the voltage
+     * levels of a substation for example). The id is always written.
+     * <p>
+     * In the sections of a normalized {@link AllElementsInfos}, only the ids of the voltage levels and substations of the
+     * elements are written, except for the substations section where the country is the one of the substation itself.
+     */
+    private static class ElementInfosFilter extends SimpleBeanPropertyFilter {
+        private static final Set<String> NORMALIZED_FIELDS = Set.of(
+                "voltageLevelName", "voltageLevelName1", "voltageLevelName2", "voltageLevelName3",
+                "voltageLevelProperties", "voltageLevelProperties1", "voltageLevelProperties2", "voltageLevelProperties3",
+                "substationName", "substationProperties", "substationProperties1", "substationProperties2", "substationProperties3",
+                "country", "country1", "country2", "country3");
+
+        private static final String SUBSTATIONS_SECTION = AllElementsInfos.getSectionName(ElementType.SUBSTATION);
+
+        @Nullable
+        private final Set<String> fields;
+
+        ElementInfosFilter(@Nullable Set<String> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator jgen, SerializerProvider provider, PropertyWriter writer) throws Exception {
+            if (isRequested(jgen.getOutputContext(), writer.getName()) && !isNormalized(jgen.getOutputContext(), writer.getName())) {
+                writer.serializeAsField(pojo, jgen, provider);
+            } else if (!jgen.canOmitFields()) {
+                writer.serializeAsOmittedField(pojo, jgen, provider);
+            }
+        }
+
+        private boolean isRequested(JsonStreamContext context, String field) {
+            return fields == null || !isReturnedElement(context) || "id".equals(field) || fields.contains(field);
+        }
+
+        private static boolean isReturnedElement(JsonStreamContext context) {
+            JsonStreamContext parent = context.getParent();
+            return parent == null || parent.inRoot() || parent.inArray() && parent.getParent() != null && parent.getParent().inRoot();
+        }
+
+        /**
+         * Is the field one of the voltage level and substation attributes of an element of a normalized response?
+         */
+        private static boolean isNormalized(JsonStreamContext context, String field) {
+            if (!NORMALIZED_FIELDS.contains(field)) {
+                return false;
+            }
+            JsonStreamContext section = context.getParent();
+            JsonStreamContext allElements = section != null && section.inArray() ? section.getParent() : null;
+            return allElements != null && allElements.getCurrentValue() instanceof AllElementsInfos allElementsInfos && allElementsInfos.isNormalized()
+                    && !("country".equals(field) && SUBSTATIONS_SECTION.equals(allElements.getCurrentName()));
+        }
+    }
+}
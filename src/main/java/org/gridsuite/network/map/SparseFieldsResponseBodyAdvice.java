@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.gridsuite.network.map.dto.InfoTypeParameters.QUERY_PARAM_FIELDS;
+
+/**
+ * Only writes the fields of the elements requested by the {@code fields} parameter, when there is one.
+ */
+@ControllerAdvice(assignableTypes = NetworkMapController.class)
+public class SparseFieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType, MethodParameter returnType,
+                                           ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        FilterProvider filterProvider = SparseFieldsConfig.getFilterProvider(getFields(servletRequest.getServletRequest()));
+        if (filterProvider != null) {
+            bodyContainer.setFilters(filterProvider);
+        }
+    }
+
+    /**
+     * The fields requested, which can be separated by commas in a parameter or given by several parameters, {@code null}
+     * if there is no {@code fields} parameter.
+     */
+    @Nullable
+    static Set<String> getFields(HttpServletRequest request) {
+        String[] fieldsValues = request.getParameterValues(QUERY_PARAM_FIELDS);
+        if (fieldsValues == null) {
+            return null;
+        }
+        return Arrays.stream(fieldsValues)
+                .flatMap(fieldsValue -> Arrays.stream(fieldsValue.split(",")))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toSet());
+    }
+}
@@ -6,16 +6,22 @@
  */
 package org.gridsuite.network.map.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
+import org.gridsuite.network.map.dto.common.SubstationReferenceData;
+import org.gridsuite.network.map.dto.common.VoltageLevelReferenceData;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Franck Lecuyer <franck.lecuyer at rte-france.com>
  */
 @Builder
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class AllElementsInfos {
     private List<ElementInfos> substations;
     private List<ElementInfos> voltageLevels;
@@ -35,4 +41,47 @@ public class AllElementsInfos {
     private List<ElementInfos> buses;
     private List<ElementInfos> busbarSections;
     private List<ElementInfos> branches;
+
+    /**
+     * The voltage levels referenced by the elements, by id, in a normalized response: the elements then only have the
+     * id of their voltage levels, not their name, properties and substation attributes.
+     */
+    private Map<String, VoltageLevelReferenceData> voltageLevelsById;
+
+    /**
+     * The substations of the referenced voltage levels, by id, in a normalized response.
+     */
+    private Map<String, SubstationReferenceData> substationsById;
+
+    @JsonIgnore
+    public boolean isNormalized() {
+        return voltageLevelsById != null;
+    }
+
+    /**
+     * The name of the section of the elements of a type
+     */
+    public static String getSectionName(ElementType elementType) {
+        return switch (elementType) {
+            case SUBSTATION -> "substations";
+            case VOLTAGE_LEVEL -> "voltageLevels";
+            case LINE -> "lines";
+            case HVDC_LINE -> "hvdcLines";
+            case LOAD -> "loads";
+            case TWO_WINDINGS_TRANSFORMER -> "twoWindingsTransformers";
+            case THREE_WINDINGS_TRANSFORMER -> "threeWindingsTransformers";
+            case GENERATOR -> "generators";
+            case BATTERY -> "batteries";
+            case BOUNDARY_LINE -> "boundaryLines";
+            case TIE_LINE -> "tieLines";
+            case LCC_CONVERTER_STATION -> "lccConverterStations";
+            case SHUNT_COMPENSATOR -> "shuntCompensators";
+            case STATIC_VAR_COMPENSATOR -> "staticVarCompensators";
+            case VSC_CONVERTER_STATION -> "vscConverterStations";
+            case BUS -> "buses";
+            case BUSBAR_SECTION -> "busbarSections";
+            case BRANCH -> "branches";
+            default -> throw new IllegalArgumentException("No section for element type " + elementType);
+        };
+    }
 }
@@ -0,0 +1,27 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.dto;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * The elements infos as one array of values per field, in the order of the elements. A field missing in an element has
+ * a {@code null} value.
+ * <p>
+ * The values of the columns having a dictionary are the indexes of the values in their dictionary.
+ */
+@Builder
+@Getter
+public class ColumnarElementsInfos {
+    private int size;
+    private Map<String, ArrayNode> columns;
+    private Map<String, ArrayNode> dictionaries;
+}
@@ -8,6 +8,7 @@ package org.gridsuite.network.map.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
+import lombok.experimental.FieldNameConstants;
 import lombok.experimental.SuperBuilder;
 
 import java.util.Map;
@@ -17,6 +18,7 @@ import java.util.Map;
  */
 @SuperBuilder
 @Getter
+@FieldNameConstants
 public class ElementInfosWithProperties extends ElementInfos {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private Map<String, String> properties;
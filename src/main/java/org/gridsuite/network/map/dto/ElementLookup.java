@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An element requested by a batch lookup.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ElementLookup {
+    private String id;
+
+    /**
+     * The type of the element, detected from the element if {@code null} (the buses of the bus view always need their type)
+     */
+    private ElementType elementType;
+
+    /**
+     * The view of the element, the one of the request if {@code null}
+     */
+    private ElementInfos.InfoType infoType;
+}
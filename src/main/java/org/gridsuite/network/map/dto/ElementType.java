@@ -113,4 +113,20 @@ public enum ElementType {
     public Stream<Connectable<?>> getConnectableStream(final Network network) {
         return this.connectableStream.apply(network);
     }
+
+    /**
+     * Detect the type of an element, the HVDC lines being of type {@link #HVDC_LINE}.
+     * @return {@code null} if the element is of none of the types, or is a bus (whose type is not detected as the
+     *         buses of the bus breaker view are not the ones of {@link #BUS})
+     */
+    @Nullable
+    public static ElementType getElementType(@NonNull final Identifiable<?> identifiable) {
+        for (ElementType elementType : values()) {
+            if (elementType.subClasses == null && elementType != HVDC_LINE_LCC && elementType != HVDC_LINE_VSC && elementType != BUS
+                    && elementType.elementClass.isInstance(identifiable)) {
+                return elementType;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * The changes of the elements of a request since the response identified by a token: the client applies them to the
+ * elements it already has, then sends the new token with its next request.
+ */
+@Builder
+@Getter
+public class ElementsDeltaInfos {
+    /**
+     * The token of this response, to send with the next request
+     */
+    private String token;
+
+    /**
+     * Whether the token sent was unknown, all the elements being then returned as added
+     */
+    private boolean full;
+
+    private List<ElementInfos> added;
+
+    private List<ElementInfos> modified;
+
+    /**
+     * The ids of the elements removed
+     */
+    private List<String> removed;
+}
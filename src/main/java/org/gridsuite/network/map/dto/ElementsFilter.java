@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.dto;
+
+import com.powsybl.iidm.network.Country;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The elements of the given types having a voltage level in one of the substations, in one of the countries and with
+ * one of the nominal voltages: the predicates without values are not applied.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ElementsFilter {
+    private List<ElementType> elementTypes;
+
+    private List<String> substationsIds;
+
+    private List<Country> countries;
+
+    private List<Double> nominalVoltages;
+}
@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The elements of any of the {@code included} filters, except the ones of the {@code excluded} filters.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ElementsIdsQuery {
+    private List<ElementsFilter> included;
+
+    private List<ElementsFilter> excluded;
+}
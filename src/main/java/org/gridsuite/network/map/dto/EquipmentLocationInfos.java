@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.dto;
+
+import com.powsybl.iidm.network.IdentifiableType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Where an equipment is in the network.
+ */
+@Builder
+@Getter
+public class EquipmentLocationInfos {
+    private String id;
+
+    private IdentifiableType type;
+
+    /**
+     * The voltage levels of the terminals of the equipment, by side for the branches, three windings transformers and
+     * HVDC lines, and the voltage levels of a substation
+     */
+    private List<String> voltageLevelIds;
+
+    private List<String> substationIds;
+}
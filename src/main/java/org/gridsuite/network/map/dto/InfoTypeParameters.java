@@ -8,8 +8,11 @@ package org.gridsuite.network.map.dto;
 
 import lombok.Data;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Data
 public class InfoTypeParameters {
@@ -18,8 +21,28 @@ public class InfoTypeParameters {
     public static final String QUERY_PARAM_LOAD_REGULATING_TERMINALS = "loadRegulatingTerminals";
     public static final String QUERY_PARAM_LOAD_NETWORK_COMPONENTS = "loadNetworkComponents";
     public static final String QUERY_PARAM_BUS_ID_TO_ICC_VALUES = "busIdToIccValues";
+    public static final String QUERY_PARAM_FIELDS = "fields";
+    public static final String QUERY_PARAM_INFO_TYPE = "infoType";
 
-    public static final InfoTypeParameters TAB = new InfoTypeParameters(ElementInfos.InfoType.TAB, null);
+    /**
+     * The TAB info type without optional parameters, for all the fields. It is shared, so it can't be modified.
+     */
+    public static final InfoTypeParameters TAB = new InfoTypeParameters(ElementInfos.InfoType.TAB, Collections.emptyMap()) {
+        @Override
+        public void setInfoType(ElementInfos.InfoType infoType) {
+            throw new UnsupportedOperationException("The shared TAB info type parameters can't be modified");
+        }
+
+        @Override
+        public void setOptionalParameters(Map<String, String> optionalParameters) {
+            throw new UnsupportedOperationException("The shared TAB info type parameters can't be modified");
+        }
+
+        @Override
+        public void setFields(Set<String> fields) {
+            throw new UnsupportedOperationException("The shared TAB info type parameters can't be modified");
+        }
+    };
 
     public InfoTypeParameters(ElementInfos.InfoType infoType, Map<String, String> optionalParameters) {
         this.infoType = infoType;
@@ -28,4 +51,23 @@ public class InfoTypeParameters {
 
     private ElementInfos.InfoType infoType;
     private Map<String, String> optionalParameters;
+
+    /**
+     * The fields of the infos requested by the client, all the fields if {@code null} or empty
+     */
+    private Set<String> fields;
+
+    /**
+     * Should the mappers compute this field of the infos?
+     */
+    public boolean isFieldRequested(String field) {
+        return fields == null || fields.isEmpty() || fields.contains(field);
+    }
+
+    /**
+     * Should the mappers compute at least one of these fields, when they are computed together?
+     */
+    public boolean isAnyFieldRequested(String... fields) {
+        return Arrays.stream(fields).anyMatch(this::isFieldRequested);
+    }
 }
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Builder
+@Getter
+public class NetworkWarmupInfos {
+    private UUID networkUuid;
+
+    /**
+     * Whether the warmed up variants are kept in the network cache, no variant being warmed up otherwise
+     */
+    private boolean cached;
+
+    private List<VariantWarmupInfos> variants;
+
+    private long durationMillis;
+
+    @Builder
+    @Getter
+    public static class VariantWarmupInfos {
+        private String variantId;
+
+        /**
+         * Time until the network was available, loading it or waiting for a concurrent load or read of the same variant
+         */
+        private long loadingMillis;
+
+        /**
+         * Time spent loading the collections of each element type and computing their infos
+         */
+        private Map<ElementType, Long> elementTypesMillis;
+
+        private long durationMillis;
+    }
+}
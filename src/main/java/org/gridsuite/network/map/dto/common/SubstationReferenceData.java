@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.dto.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.powsybl.iidm.network.Country;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * The attributes of a substation that its voltage levels reference by its id in a normalized response.
+ */
+@Builder
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SubstationReferenceData {
+    private String name;
+
+    private Country country;
+
+    private Map<String, String> properties;
+}
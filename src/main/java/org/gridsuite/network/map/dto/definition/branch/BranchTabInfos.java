@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.powsybl.iidm.network.Country;
 import lombok.Getter;
+import lombok.experimental.FieldNameConstants;
 import lombok.experimental.SuperBuilder;
 import org.gridsuite.network.map.dto.ElementInfosWithProperties;
 import org.gridsuite.network.map.dto.common.CurrentLimitsData;
@@ -22,6 +23,7 @@ import java.util.Optional;
 
 @SuperBuilder
 @Getter
+@FieldNameConstants
 public class BranchTabInfos extends ElementInfosWithProperties {
     private String type;
 
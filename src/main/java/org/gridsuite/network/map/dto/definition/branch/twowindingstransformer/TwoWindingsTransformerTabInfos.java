@@ -9,6 +9,7 @@ package org.gridsuite.network.map.dto.definition.branch.twowindingstransformer;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.powsybl.iidm.network.Country;
 import lombok.Getter;
+import lombok.experimental.FieldNameConstants;
 import lombok.experimental.SuperBuilder;
 import org.gridsuite.network.map.dto.common.TapChangerData;
 import org.gridsuite.network.map.dto.definition.branch.BranchTabInfos;
@@ -23,6 +24,7 @@ import java.util.Optional;
  */
 @SuperBuilder
 @Getter
+@FieldNameConstants
 public class TwoWindingsTransformerTabInfos extends BranchTabInfos {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private Country country;
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.EnergySource;
 import lombok.Getter;
+import lombok.experimental.FieldNameConstants;
 import lombok.experimental.SuperBuilder;
 import org.gridsuite.network.map.dto.ElementInfosWithProperties;
 import org.gridsuite.network.map.dto.common.MinMaxReactiveLimitsMapData;
@@ -24,6 +25,7 @@ import java.util.Optional;
  */
 @SuperBuilder
 @Getter
+@FieldNameConstants
 public class GeneratorTabInfos extends ElementInfosWithProperties {
     private String voltageLevelId;
 
@@ -9,6 +9,7 @@ package org.gridsuite.network.map.dto.definition.threewindingstransformer;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.powsybl.iidm.network.Country;
 import lombok.Getter;
+import lombok.experimental.FieldNameConstants;
 import lombok.experimental.SuperBuilder;
 import org.gridsuite.network.map.dto.ElementInfosWithProperties;
 import org.gridsuite.network.map.dto.common.TapChangerData;
@@ -23,6 +24,7 @@ import java.util.Optional;
  */
 @SuperBuilder
 @Getter
+@FieldNameConstants
 public class ThreeWindingsTransformerTabInfos extends ElementInfosWithProperties {
 
     private String voltageLevelId1;
@@ -16,8 +16,9 @@ import org.gridsuite.network.map.dto.common.MinMaxReactiveLimitsMapData;
 import org.gridsuite.network.map.dto.common.ReactiveCapabilityCurveMapData;
 import org.gridsuite.network.map.dto.definition.battery.BatteryFormInfos;
 import org.gridsuite.network.map.dto.definition.battery.BatteryTabInfos;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
 import org.gridsuite.network.map.dto.utils.ExtensionUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 
 import java.util.Collection;
 import java.util.List;
@@ -94,13 +95,14 @@ public final class BatteryInfosMapper {
     private static BatteryTabInfos toTabInfos(Identifiable<?> identifiable) {
         Battery battery = (Battery) identifiable;
         Terminal terminal = battery.getTerminal();
+        VoltageLevelAttributes voltageLevel = MappingContext.voltageLevel(terminal.getVoltageLevel());
         BatteryTabInfos.BatteryTabInfosBuilder<?, ?> builder = BatteryTabInfos.builder()
             .name(battery.getOptionalName().orElse(null))
             .id(battery.getId())
             .terminalConnected(terminal.isConnected())
-            .voltageLevelId(terminal.getVoltageLevel().getId())
-            .nominalVoltage(terminal.getVoltageLevel().getNominalV())
-            .country(mapCountry(terminal.getVoltageLevel().getSubstation().orElse(null)))
+            .voltageLevelId(voltageLevel.id())
+            .nominalVoltage(voltageLevel.nominalV())
+            .country(voltageLevel.country())
             .targetP(battery.getTargetP())
             .targetQ(nullIfNan(battery.getTargetQ()))
             .minP(battery.getMinP())
@@ -114,8 +116,8 @@ public final class BatteryInfosMapper {
                .batteryShortCircuit(ExtensionUtils.toShortCircuit(() -> battery.getExtension(BatteryShortCircuit.class)));
 
         // voltageLevel and substation properties
-        builder.voltageLevelProperties(getProperties(terminal.getVoltageLevel()));
-        builder.substationProperties(terminal.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null));
+        builder.voltageLevelProperties(voltageLevel.properties());
+        builder.substationProperties(voltageLevel.substationProperties());
 
         ReactiveLimits reactiveLimits = battery.getReactiveLimits();
         if (reactiveLimits != null) {
@@ -13,8 +13,9 @@ import com.powsybl.iidm.network.extensions.Measurement.Type;
 import org.gridsuite.network.map.dto.ElementInfos;
 import org.gridsuite.network.map.dto.InfoTypeParameters;
 import org.gridsuite.network.map.dto.definition.boundaryline.BoundaryLineTabInfos;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
 import org.gridsuite.network.map.dto.utils.ExtensionUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 
 import static org.gridsuite.network.map.dto.utils.ElementUtils.*;
 
@@ -36,13 +37,14 @@ public final class BoundaryLineInfosMapper {
     private static BoundaryLineTabInfos toTabInfos(Identifiable<?> identifiable) {
         BoundaryLine boundaryLine = (BoundaryLine) identifiable;
         Terminal terminal = boundaryLine.getTerminal();
+        VoltageLevelAttributes voltageLevel = MappingContext.voltageLevel(terminal.getVoltageLevel());
         BoundaryLineTabInfos.BoundaryLineTabInfosBuilder<?, ?> builder = BoundaryLineTabInfos.builder()
                 .name(boundaryLine.getOptionalName().orElse(null))
                 .id(boundaryLine.getId())
                 .terminalConnected(terminal.isConnected())
-                .voltageLevelId(terminal.getVoltageLevel().getId())
-                .nominalV(terminal.getVoltageLevel().getNominalV())
-                .country(mapCountry(terminal.getVoltageLevel().getSubstation().orElse(null)))
+                .voltageLevelId(voltageLevel.id())
+                .nominalV(voltageLevel.nominalV())
+                .country(voltageLevel.country())
                 .pairingKey(boundaryLine.getPairingKey())
                 .p0(boundaryLine.getP0())
                 .properties(getProperties(boundaryLine))
@@ -52,8 +54,8 @@ public final class BoundaryLineInfosMapper {
                 .i(nullIfNan(terminal.getI()));
 
         // voltageLevel and substation properties
-        builder.voltageLevelProperties(getProperties(terminal.getVoltageLevel()));
-        builder.substationProperties(terminal.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null));
+        builder.voltageLevelProperties(voltageLevel.properties());
+        builder.substationProperties(voltageLevel.substationProperties());
 
         builder.measurementP(ExtensionUtils.toMeasurement(boundaryLine, Type.ACTIVE_POWER, 0))
             .measurementQ(ExtensionUtils.toMeasurement(boundaryLine, Type.REACTIVE_POWER, 0));
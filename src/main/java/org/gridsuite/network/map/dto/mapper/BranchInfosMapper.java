@@ -7,6 +7,7 @@ import com.powsybl.iidm.network.extensions.BranchObservability;
 import com.powsybl.iidm.network.extensions.Measurement.Type;
 import lombok.NonNull;
 import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementInfosWithProperties;
 import org.gridsuite.network.map.dto.InfoTypeParameters;
 import org.gridsuite.network.map.dto.common.CurrentLimitsData;
 import org.gridsuite.network.map.dto.common.CurrentLimitsData.Applicability;
@@ -18,6 +19,8 @@ import org.gridsuite.network.map.dto.definition.branch.BranchTabInfos.BranchTabI
 import org.gridsuite.network.map.dto.definition.extension.BranchObservabilityInfos;
 import org.gridsuite.network.map.dto.utils.ElementUtils;
 import org.gridsuite.network.map.dto.utils.ExtensionUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 import org.springframework.lang.Nullable;
 import org.springframework.util.CollectionUtils;
 
@@ -30,7 +33,6 @@ import static org.gridsuite.network.map.dto.InfoTypeParameters.QUERY_PARAM_LOAD_
 import static org.gridsuite.network.map.dto.common.CurrentLimitsData.Applicability.SIDE1;
 import static org.gridsuite.network.map.dto.common.CurrentLimitsData.Applicability.SIDE2;
 import static org.gridsuite.network.map.dto.utils.ElementUtils.handleUnsupportedInfoType;
-import static org.gridsuite.network.map.dto.utils.ElementUtils.mapCountry;
 import static org.gridsuite.network.map.dto.utils.ExtensionUtils.buildQualityInfos;
 
 public sealed class BranchInfosMapper permits LineInfosMapper, TieLineInfosMapper, TwoWindingsTransformerInfosMapper {
@@ -44,7 +46,7 @@ public sealed class BranchInfosMapper permits LineInfosMapper, TieLineInfosMappe
         final boolean loadOperationalLimitGroups = Optional.ofNullable(infoTypeParameters.getOptionalParameters().get(QUERY_PARAM_LOAD_OPERATIONAL_LIMIT_GROUPS))
             .map(Boolean::valueOf).orElse(false);
         return switch (infoTypeParameters.getInfoType()) {
-            case TAB -> toTabInfos(branch, dcPowerFactor, loadOperationalLimitGroups);
+            case TAB -> toTabInfos(branch, infoTypeParameters, dcPowerFactor, loadOperationalLimitGroups);
             default -> throw handleUnsupportedInfoType(infoTypeParameters.getInfoType(), "Branch");
         };
     }
@@ -52,6 +54,7 @@ public sealed class BranchInfosMapper permits LineInfosMapper, TieLineInfosMappe
     protected static <T extends BranchTabInfos, B extends BranchTabInfosBuilder<T, ?>> B toTabBuilder(
         @NonNull final B builder,
         @NonNull final Branch<?> branch,
+        @NonNull final InfoTypeParameters infoTypeParameters,
         @Nullable final Double dcPowerFactor,
         final boolean loadOperationalLimitGroups
     ) {
@@ -63,25 +66,49 @@ public sealed class BranchInfosMapper permits LineInfosMapper, TieLineInfosMappe
             case TwoWindingsTransformer twt -> builder.r(twt.getR()).x(twt.getX());
             default -> throw new UnsupportedOperationException("Unsupported branch implementation " + branch.getClass().getName());
         }
-        // extensions for connectable type
+        // extensions for connectable type, only computed when requested as the properties and extensions below
         if (branch instanceof Connectable<?> connectable) {
-            builder.measurementP1(ExtensionUtils.toMeasurement(connectable, Type.ACTIVE_POWER, 0))
-                    .measurementQ1(ExtensionUtils.toMeasurement(connectable, Type.REACTIVE_POWER, 0))
-                    .measurementP2(ExtensionUtils.toMeasurement(connectable, Type.ACTIVE_POWER, 1))
-                    .measurementQ2(ExtensionUtils.toMeasurement(connectable, Type.REACTIVE_POWER, 1));
+            if (infoTypeParameters.isFieldRequested(BranchTabInfos.Fields.measurementP1)) {
+                builder.measurementP1(ExtensionUtils.toMeasurement(connectable, Type.ACTIVE_POWER, 0));
+            }
+            if (infoTypeParameters.isFieldRequested(BranchTabInfos.Fields.measurementQ1)) {
+                builder.measurementQ1(ExtensionUtils.toMeasurement(connectable, Type.REACTIVE_POWER, 0));
+            }
+            if (infoTypeParameters.isFieldRequested(BranchTabInfos.Fields.measurementP2)) {
+                builder.measurementP2(ExtensionUtils.toMeasurement(connectable, Type.ACTIVE_POWER, 1));
+            }
+            if (infoTypeParameters.isFieldRequested(BranchTabInfos.Fields.measurementQ2)) {
+                builder.measurementQ2(ExtensionUtils.toMeasurement(connectable, Type.REACTIVE_POWER, 1));
+            }
         }
         // common properties
         final Terminal terminal1 = branch.getTerminal1();
         final Terminal terminal2 = branch.getTerminal2();
+        final VoltageLevelAttributes voltageLevel1 = MappingContext.voltageLevel(terminal1.getVoltageLevel());
+        final VoltageLevelAttributes voltageLevel2 = MappingContext.voltageLevel(terminal2.getVoltageLevel());
 
-        branch.getSelectedOperationalLimitsGroup1().ifPresent(limitGrp ->
-            limitGrp.getCurrentLimits().ifPresent(cl -> builder.selectedOperationalLimitsGroup1(toMapDataCurrentLimits(cl, limitGrp.getId(), ElementInfos.InfoType.TAB))));
+        if (infoTypeParameters.isFieldRequested(BranchTabInfos.Fields.selectedOperationalLimitsGroup1)) {
+            branch.getSelectedOperationalLimitsGroup1().ifPresent(limitGrp ->
+                limitGrp.getCurrentLimits().ifPresent(cl -> builder.selectedOperationalLimitsGroup1(toMapDataCurrentLimits(cl, limitGrp.getId(), ElementInfos.InfoType.TAB))));
+        }
         branch.getSelectedOperationalLimitsGroupId1().ifPresent(builder::selectedOperationalLimitsGroup1Name);
 
-        branch.getSelectedOperationalLimitsGroup2().ifPresent(limitGrp ->
-            limitGrp.getCurrentLimits().ifPresent(cl -> builder.selectedOperationalLimitsGroup2(toMapDataCurrentLimits(cl, limitGrp.getId(), ElementInfos.InfoType.TAB))));
+        if (infoTypeParameters.isFieldRequested(BranchTabInfos.Fields.selectedOperationalLimitsGroup2)) {
+            branch.getSelectedOperationalLimitsGroup2().ifPresent(limitGrp ->
+                limitGrp.getCurrentLimits().ifPresent(cl -> builder.selectedOperationalLimitsGroup2(toMapDataCurrentLimits(cl, limitGrp.getId(), ElementInfos.InfoType.TAB))));
+        }
         branch.getSelectedOperationalLimitsGroupId2().ifPresent(builder::selectedOperationalLimitsGroup2Name);
 
+        if (infoTypeParameters.isFieldRequested(ElementInfosWithProperties.Fields.properties)) {
+            builder.properties(ElementUtils.getProperties(branch));
+        }
+        if (infoTypeParameters.isFieldRequested(BranchTabInfos.Fields.branchObservability)) {
+            builder.branchObservability(toBranchObservability(branch));
+        }
+        if (infoTypeParameters.isFieldRequested(BranchTabInfos.Fields.operatingStatus)) {
+            builder.operatingStatus(ExtensionUtils.toOperatingStatus(branch));
+        }
+
         if (loadOperationalLimitGroups) {
             final Map<String, CurrentLimitsData> mapOperationalLimitsGroup1 = buildCurrentLimitsMap(branch.getOperationalLimitsGroups1());
             builder.operationalLimitsGroup1(mapOperationalLimitsGroup1)
@@ -95,36 +122,34 @@ public sealed class BranchInfosMapper permits LineInfosMapper, TieLineInfosMappe
                 .type(branch.getType().name())
                 .name(branch.getOptionalName().orElse(null))
                 .id(branch.getId())
-                .substationId1(terminal1.getVoltageLevel().getSubstation().map(Substation::getId).orElse(null))
-                .substationId2(terminal2.getVoltageLevel().getSubstation().map(Substation::getId).orElse(null))
-                .country1(mapCountry(terminal1.getVoltageLevel().getSubstation().orElse(null)))
-                .country2(mapCountry(terminal2.getVoltageLevel().getSubstation().orElse(null)))
+                .substationId1(voltageLevel1.substationId())
+                .substationId2(voltageLevel2.substationId())
+                .country1(voltageLevel1.country())
+                .country2(voltageLevel2.country())
                 .terminal1Connected(terminal1.isConnected())
                 .terminal2Connected(terminal2.isConnected())
-                .voltageLevelId1(terminal1.getVoltageLevel().getId())
-                .voltageLevelId2(terminal2.getVoltageLevel().getId())
-                .voltageLevelName1(terminal1.getVoltageLevel().getOptionalName().orElse(null))
-                .voltageLevelName2(terminal2.getVoltageLevel().getOptionalName().orElse(null))
-                .nominalVoltage1(terminal1.getVoltageLevel().getNominalV())
-                .nominalVoltage2(terminal2.getVoltageLevel().getNominalV())
+                .voltageLevelId1(voltageLevel1.id())
+                .voltageLevelId2(voltageLevel2.id())
+                .voltageLevelName1(voltageLevel1.name())
+                .voltageLevelName2(voltageLevel2.name())
+                .nominalVoltage1(voltageLevel1.nominalV())
+                .nominalVoltage2(voltageLevel2.nominalV())
                 .p1(ElementUtils.nullIfNan(terminal1.getP()))
                 .p2(ElementUtils.nullIfNan(terminal2.getP()))
                 .q1(ElementUtils.nullIfNan(terminal1.getQ()))
                 .q2(ElementUtils.nullIfNan(terminal2.getQ()))
-                .i1(ElementUtils.nullIfNan(computeIntensity(terminal1, dcPowerFactor)))
-                .i2(ElementUtils.nullIfNan(computeIntensity(terminal2, dcPowerFactor)))
-                .properties(ElementUtils.getProperties(branch))
-                .voltageLevelProperties1(ElementUtils.getProperties(terminal1.getVoltageLevel()))
-                .voltageLevelProperties2(ElementUtils.getProperties(terminal2.getVoltageLevel()))
-                .substationProperties1(terminal1.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null))
-                .substationProperties2(terminal2.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null))
-                .branchObservability(toBranchObservability(branch))
-                .operatingStatus(ExtensionUtils.toOperatingStatus(branch));
+                .i1(ElementUtils.nullIfNan(computeIntensity(terminal1, voltageLevel1.nominalV(), dcPowerFactor)))
+                .i2(ElementUtils.nullIfNan(computeIntensity(terminal2, voltageLevel2.nominalV(), dcPowerFactor)))
+                .voltageLevelProperties1(voltageLevel1.properties())
+                .voltageLevelProperties2(voltageLevel2.properties())
+                .substationProperties1(voltageLevel1.substationProperties())
+                .substationProperties2(voltageLevel2.substationProperties());
     }
 
-    private static BranchTabInfos toTabInfos(@NonNull final Branch<?> branch, @Nullable final Double dcPowerFactor, @NonNull final Boolean loadOperationalLimitGroups) {
+    private static BranchTabInfos toTabInfos(@NonNull final Branch<?> branch, @NonNull final InfoTypeParameters infoTypeParameters,
+                                             @Nullable final Double dcPowerFactor, @NonNull final Boolean loadOperationalLimitGroups) {
         /// Why is {@link BranchTabInfos#builder()} return wildcards in return type {@code BranchTabInfosBuilder<?, ?>}
-        return toTabBuilder((BranchTabInfosBuilder<BranchTabInfos, ?>) BranchTabInfos.builder(), branch, dcPowerFactor, loadOperationalLimitGroups).build();
+        return toTabBuilder((BranchTabInfosBuilder<BranchTabInfos, ?>) BranchTabInfos.builder(), branch, infoTypeParameters, dcPowerFactor, loadOperationalLimitGroups).build();
     }
 
     private static List<LimitsProperty> getLimitsProperties(OperationalLimitsGroup group) {
@@ -154,13 +179,17 @@ public sealed class BranchInfosMapper permits LineInfosMapper, TieLineInfosMappe
     }
 
     protected static double computeIntensity(@NonNull final Terminal terminal, @Nullable final Double dcPowerFactor) {
+        return computeIntensity(terminal, terminal.getVoltageLevel().getNominalV(), dcPowerFactor);
+    }
+
+    protected static double computeIntensity(@NonNull final Terminal terminal, final double nominalV, @Nullable final Double dcPowerFactor) {
         double intensity = terminal.getI();
 
         if (Double.isNaN(intensity) && !Double.isNaN(terminal.getP()) && dcPowerFactor != null) {
             // After a DC load flow, the current at a terminal can be undefined (NaN). In that case, we use the DC power factor,
             // the nominal voltage and the active power at the terminal in order to approximate the current following formula
             // P = sqrt(3) x Vnom x I x dcPowerFactor
-            intensity = 1000. * terminal.getP() / (Math.sqrt(3) * dcPowerFactor * terminal.getVoltageLevel().getNominalV());
+            intensity = 1000. * terminal.getP() / (Math.sqrt(3) * dcPowerFactor * nominalV);
         }
         return intensity;
     }
@@ -15,7 +15,8 @@ import org.gridsuite.network.map.dto.ElementInfos;
 import org.gridsuite.network.map.dto.InfoTypeParameters;
 import org.gridsuite.network.map.dto.definition.busbarsection.BusBarSectionFormInfos;
 import org.gridsuite.network.map.dto.definition.busbarsection.BusBarSectionTabInfos;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 
 import static org.gridsuite.network.map.dto.utils.ElementUtils.getProperties;
 import static org.gridsuite.network.map.dto.utils.ElementUtils.handleUnsupportedInfoType;
@@ -53,15 +54,16 @@ public final class BusBarSectionInfosMapper {
     private static BusBarSectionTabInfos toTabInfos(Identifiable<?> identifiable) {
         BusbarSection busbarSection = (BusbarSection) identifiable;
         Terminal terminal = busbarSection.getTerminal();
+        VoltageLevelAttributes voltageLevel = MappingContext.voltageLevel(terminal.getVoltageLevel());
         return BusBarSectionTabInfos.builder()
             .id(busbarSection.getId())
             .name(busbarSection.getOptionalName().orElse(null))
             .properties(getProperties(busbarSection))
-            .voltageLevelId(busbarSection.getTerminal().getVoltageLevel().getId())
+            .voltageLevelId(voltageLevel.id())
             .measurementV(toMeasurement(busbarSection, Type.VOLTAGE, 0))
             .measurementAngle(toMeasurement(busbarSection, Type.ANGLE, 0))
-            .voltageLevelProperties(getProperties(terminal.getVoltageLevel()))
-            .substationProperties(terminal.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null))
+            .voltageLevelProperties(voltageLevel.properties())
+            .substationProperties(voltageLevel.substationProperties())
             .build();
     }
 }
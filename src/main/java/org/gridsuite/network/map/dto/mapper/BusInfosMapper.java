@@ -11,7 +11,8 @@ import com.powsybl.iidm.network.Identifiable;
 import org.gridsuite.network.map.dto.ElementInfos;
 import org.gridsuite.network.map.dto.InfoTypeParameters;
 import org.gridsuite.network.map.dto.definition.bus.BusTabInfos;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -40,17 +41,18 @@ public final class BusInfosMapper {
 
     private static BusTabInfos toTabInfos(Identifiable<?> identifiable, boolean shouldLoadNetworkComponents) {
         Bus bus = (Bus) identifiable;
+        VoltageLevelAttributes voltageLevel = MappingContext.voltageLevel(bus.getVoltageLevel());
         BusTabInfos.BusTabInfosBuilder<?, ?> builder = BusTabInfos.builder().id(bus.getId())
                 .angle(bus.getAngle())
                 .v(bus.getV())
-                .voltageLevelId(bus.getVoltageLevel().getId())
-                .nominalVoltage(bus.getVoltageLevel().getNominalV())
-                .country(mapCountry(bus.getVoltageLevel().getSubstation().orElse(null)))
+                .voltageLevelId(voltageLevel.id())
+                .nominalVoltage(voltageLevel.nominalV())
+                .country(voltageLevel.country())
                 .generation(computeGeneration(bus))
                 .load(computeLoad(bus))
                 .properties(getProperties(bus))
-                .substationProperties(bus.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null))
-                .voltageLevelProperties(getProperties(bus.getVoltageLevel()))
+                .substationProperties(voltageLevel.substationProperties())
+                .voltageLevelProperties(voltageLevel.properties())
                 .fictitiousP0(bus.getFictitiousP0())
                 .fictitiousQ0(bus.getFictitiousQ0());
 
@@ -13,6 +13,7 @@ import com.powsybl.iidm.network.extensions.GeneratorStartup;
 import com.powsybl.iidm.network.extensions.Measurement.Type;
 import com.powsybl.network.store.iidm.impl.MinMaxReactiveLimitsImpl;
 import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementInfosWithProperties;
 import org.gridsuite.network.map.dto.InfoTypeParameters;
 import org.gridsuite.network.map.dto.common.MinMaxReactiveLimitsMapData;
 import org.gridsuite.network.map.dto.common.ReactiveCapabilityCurveMapData;
@@ -21,8 +22,9 @@ import org.gridsuite.network.map.dto.definition.extension.GeneratorStartupInfos;
 import org.gridsuite.network.map.dto.definition.generator.GeneratorFormInfos;
 import org.gridsuite.network.map.dto.definition.generator.GeneratorTabInfos;
 import org.gridsuite.network.map.dto.definition.generator.GeneratorTooltipInfos;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
 import org.gridsuite.network.map.dto.utils.ExtensionUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 import org.springframework.lang.NonNull;
 
 import java.util.Collection;
@@ -46,7 +48,7 @@ public final class GeneratorInfosMapper {
         boolean loadRegulatingTerminals = Optional.ofNullable(infoTypeParameters.getOptionalParameters().get(QUERY_PARAM_LOAD_REGULATING_TERMINALS))
             .map(Boolean::valueOf).orElse(false);
         return switch (infoTypeParameters.getInfoType()) {
-            case TAB -> toTabInfos(identifiable, loadRegulatingTerminals);
+            case TAB -> toTabInfos(identifiable, infoTypeParameters, loadRegulatingTerminals);
             case FORM -> toFormInfos(identifiable);
             case TOOLTIP -> toTooltipInfos(identifiable);
             case LIST -> ElementInfosMapper.toInfosWithType(identifiable);
@@ -64,16 +66,17 @@ public final class GeneratorInfosMapper {
                 .collect(Collectors.toList());
     }
 
-    private static GeneratorTabInfos toTabInfos(Identifiable<?> identifiable, boolean loadRegulatingTerminals) {
+    private static GeneratorTabInfos toTabInfos(Identifiable<?> identifiable, InfoTypeParameters infoTypeParameters, boolean loadRegulatingTerminals) {
         Generator generator = (Generator) identifiable;
         Terminal terminal = generator.getTerminal();
+        VoltageLevelAttributes voltageLevel = MappingContext.voltageLevel(terminal.getVoltageLevel());
         GeneratorTabInfos.GeneratorTabInfosBuilder<?, ?> builder = GeneratorTabInfos.builder()
                 .name(generator.getOptionalName().orElse(null))
                 .id(generator.getId())
                 .terminalConnected(terminal.isConnected())
-                .voltageLevelId(terminal.getVoltageLevel().getId())
-                .nominalVoltage(terminal.getVoltageLevel().getNominalV())
-                .country(mapCountry(terminal.getVoltageLevel().getSubstation().orElse(null)))
+                .voltageLevelId(voltageLevel.id())
+                .nominalVoltage(voltageLevel.nominalV())
+                .country(voltageLevel.country())
                 .targetP(generator.getTargetP())
                 .targetQ(nullIfNan(generator.getTargetQ()))
                 .targetV(nullIfNan(generator.getTargetV()))
@@ -83,13 +86,24 @@ public final class GeneratorInfosMapper {
                 .energySource(generator.getEnergySource())
                 .voltageRegulatorOn(generator.isVoltageRegulatorOn())
                 .p(nullIfNan(terminal.getP()))
-                .properties(getProperties(generator))
                 .q(nullIfNan(terminal.getQ()));
 
-        builder.activePowerControl(ExtensionUtils.toActivePowerControl(generator))
-                .coordinatedReactiveControl(toCoordinatedReactiveControl(generator))
-                .generatorShortCircuit(ExtensionUtils.toShortCircuit(() -> generator.getExtension(GeneratorShortCircuit.class)))
-                .generatorStartup(toGeneratorStartup(generator));
+        // the fields read from properties or extensions are only computed when requested
+        if (infoTypeParameters.isFieldRequested(ElementInfosWithProperties.Fields.properties)) {
+            builder.properties(getProperties(generator));
+        }
+        if (infoTypeParameters.isFieldRequested(GeneratorTabInfos.Fields.activePowerControl)) {
+            builder.activePowerControl(ExtensionUtils.toActivePowerControl(generator));
+        }
+        if (infoTypeParameters.isFieldRequested(GeneratorTabInfos.Fields.coordinatedReactiveControl)) {
+            builder.coordinatedReactiveControl(toCoordinatedReactiveControl(generator));
+        }
+        if (infoTypeParameters.isFieldRequested(GeneratorTabInfos.Fields.generatorShortCircuit)) {
+            builder.generatorShortCircuit(ExtensionUtils.toShortCircuit(() -> generator.getExtension(GeneratorShortCircuit.class)));
+        }
+        if (infoTypeParameters.isFieldRequested(GeneratorTabInfos.Fields.generatorStartup)) {
+            builder.generatorStartup(toGeneratorStartup(generator));
+        }
 
         if (loadRegulatingTerminals) {
             Terminal regulatingTerminal = generator.getRegulatingTerminal();
@@ -107,37 +121,46 @@ public final class GeneratorInfosMapper {
         ReactiveLimits reactiveLimits = generator.getReactiveLimits();
         if (reactiveLimits != null) {
             ReactiveLimitsKind limitsKind = reactiveLimits.getKind();
-            if (limitsKind == ReactiveLimitsKind.MIN_MAX) {
+            if (limitsKind == ReactiveLimitsKind.MIN_MAX && infoTypeParameters.isFieldRequested(GeneratorTabInfos.Fields.minMaxReactiveLimits)) {
                 MinMaxReactiveLimits minMaxReactiveLimits = generator.getReactiveLimits(MinMaxReactiveLimitsImpl.class);
                 builder.minMaxReactiveLimits(MinMaxReactiveLimitsMapData.builder()
                         .maxQ(minMaxReactiveLimits.getMaxQ())
                         .minQ(minMaxReactiveLimits.getMinQ())
                         .build());
-            } else if (limitsKind == ReactiveLimitsKind.CURVE) {
+            } else if (limitsKind == ReactiveLimitsKind.CURVE && infoTypeParameters.isFieldRequested(GeneratorTabInfos.Fields.reactiveCapabilityCurvePoints)) {
                 ReactiveCapabilityCurve capabilityCurve = generator.getReactiveLimits(ReactiveCapabilityCurve.class);
                 builder.reactiveCapabilityCurvePoints(getReactiveCapabilityCurvePoints(capabilityCurve.getPoints()));
             }
         }
 
-        builder.connectablePosition(ExtensionUtils.toMapConnectablePosition(generator, 0));
-
-        builder.measurementP(ExtensionUtils.toMeasurement(generator, Type.ACTIVE_POWER, 0))
-            .measurementQ(ExtensionUtils.toMeasurement(generator, Type.REACTIVE_POWER, 0));
+        if (infoTypeParameters.isFieldRequested(GeneratorTabInfos.Fields.connectablePosition)) {
+            builder.connectablePosition(ExtensionUtils.toMapConnectablePosition(generator, 0));
+        }
+        if (infoTypeParameters.isFieldRequested(GeneratorTabInfos.Fields.measurementP)) {
+            builder.measurementP(ExtensionUtils.toMeasurement(generator, Type.ACTIVE_POWER, 0));
+        }
+        if (infoTypeParameters.isFieldRequested(GeneratorTabInfos.Fields.measurementQ)) {
+            builder.measurementQ(ExtensionUtils.toMeasurement(generator, Type.REACTIVE_POWER, 0));
+        }
 
         builder.isCondenser(generator.isCondenser());
 
         // substation attrubutes
-        builder.substationId(terminal.getVoltageLevel().getSubstation().map(Substation::getId).orElse(null));
-        builder.substationName(terminal.getVoltageLevel().getSubstation().map(Substation::getOptionalName).orElse(null).orElse(null));
-        builder.substationProperties(terminal.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null));
+        builder.substationId(voltageLevel.substationId());
+        builder.substationName(voltageLevel.substationName());
+        builder.substationProperties(voltageLevel.substationProperties());
 
         // voltage level attributes
-        builder.voltageLevelName(terminal.getVoltageLevel().getOptionalName().orElse(null));
-        builder.voltageLevelProperties(getProperties(terminal.getVoltageLevel()));
+        builder.voltageLevelName(voltageLevel.name());
+        builder.voltageLevelProperties(voltageLevel.properties());
         builder.lowVoltageLimit(terminal.getVoltageLevel().getLowVoltageLimit());
         builder.highVoltageLimit(terminal.getVoltageLevel().getHighVoltageLimit());
-        builder.voltageLevelShortCircuit(ExtensionUtils.toIdentifiableShortCircuit(terminal.getVoltageLevel()));
-        builder.injectionObservability(ExtensionUtils.toInjectionObservability(generator));
+        if (infoTypeParameters.isFieldRequested(GeneratorTabInfos.Fields.voltageLevelShortCircuit)) {
+            builder.voltageLevelShortCircuit(ExtensionUtils.toIdentifiableShortCircuit(terminal.getVoltageLevel()));
+        }
+        if (infoTypeParameters.isFieldRequested(GeneratorTabInfos.Fields.injectionObservability)) {
+            builder.injectionObservability(ExtensionUtils.toInjectionObservability(generator));
+        }
 
         return builder.build();
     }
@@ -17,8 +17,9 @@ import org.gridsuite.network.map.dto.definition.hvdc.HvdcMapInfos;
 import org.gridsuite.network.map.dto.definition.hvdc.HvdcOperatingStatusInfos;
 import org.gridsuite.network.map.dto.definition.hvdc.HvdcShuntCompensatorsInfos;
 import org.gridsuite.network.map.dto.definition.hvdc.HvdcTabInfos;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
 import org.gridsuite.network.map.dto.utils.ExtensionUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 import org.springframework.lang.NonNull;
 
 import java.util.List;
@@ -83,21 +84,23 @@ public class HvdcInfosMapper {
         HvdcTabInfos.HvdcTabInfosBuilder<?, ?> builder = HvdcTabInfos.builder();
         Terminal terminal1 = hvdcLine.getConverterStation1().getTerminal();
         Terminal terminal2 = hvdcLine.getConverterStation2().getTerminal();
+        VoltageLevelAttributes voltageLevel1 = MappingContext.voltageLevel(terminal1.getVoltageLevel());
+        VoltageLevelAttributes voltageLevel2 = MappingContext.voltageLevel(terminal2.getVoltageLevel());
         builder
                 .name(hvdcLine.getOptionalName().orElse(null))
                 .id(hvdcLine.getId())
-                .voltageLevelId1(terminal1.getVoltageLevel().getId())
-                .voltageLevelId2(terminal2.getVoltageLevel().getId())
-                .country1(mapCountry(terminal1.getVoltageLevel().getSubstation().orElse(null)))
-                .country2(mapCountry(terminal2.getVoltageLevel().getSubstation().orElse(null)))
+                .voltageLevelId1(voltageLevel1.id())
+                .voltageLevelId2(voltageLevel2.id())
+                .country1(voltageLevel1.country())
+                .country2(voltageLevel2.country())
                 .i1(nullIfNan(terminal1.getI()))
                 .i2(nullIfNan(terminal2.getI()));
 
         // voltageLevels and substations properties
-        builder.voltageLevelProperties1(getProperties(terminal1.getVoltageLevel()));
-        builder.substationProperties1(terminal1.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null));
-        builder.voltageLevelProperties2(getProperties(terminal2.getVoltageLevel()));
-        builder.substationProperties2(terminal2.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null));
+        builder.voltageLevelProperties1(voltageLevel1.properties());
+        builder.substationProperties1(voltageLevel1.substationProperties());
+        builder.voltageLevelProperties2(voltageLevel2.properties());
+        builder.substationProperties2(voltageLevel2.substationProperties());
 
         builder
                 .convertersMode(hvdcLine.getConvertersMode())
@@ -14,8 +14,9 @@ import org.gridsuite.network.map.dto.ElementInfos;
 import org.gridsuite.network.map.dto.InfoTypeParameters;
 import org.gridsuite.network.map.dto.definition.lccconverterstation.LccConverterStationFormInfos;
 import org.gridsuite.network.map.dto.definition.lccconverterstation.LccConverterStationTabInfos;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
 import org.gridsuite.network.map.dto.utils.ExtensionUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 
 import static org.gridsuite.network.map.dto.mapper.HvdcInfosMapper.toShuntCompensatorInfos;
 import static org.gridsuite.network.map.dto.utils.ElementUtils.*;
@@ -40,13 +41,14 @@ public final class LccConverterStationInfosMapper {
     private static LccConverterStationTabInfos toTabInfos(Identifiable<?> identifiable) {
         LccConverterStation lccConverterStation = (LccConverterStation) identifiable;
         Terminal terminal = lccConverterStation.getTerminal();
+        VoltageLevelAttributes voltageLevel = MappingContext.voltageLevel(terminal.getVoltageLevel());
         LccConverterStationTabInfos.LccConverterStationTabInfosBuilder<?, ?> builder = LccConverterStationTabInfos.builder();
         builder
                 .name(lccConverterStation.getOptionalName().orElse(null))
                 .id(lccConverterStation.getId())
-                .voltageLevelId(terminal.getVoltageLevel().getId())
-                .nominalV(terminal.getVoltageLevel().getNominalV())
-                .country(mapCountry(terminal.getVoltageLevel().getSubstation().orElse(null)))
+                .voltageLevelId(voltageLevel.id())
+                .nominalV(voltageLevel.nominalV())
+                .country(voltageLevel.country())
                 .terminalConnected(terminal.isConnected())
                 .lossFactor(lccConverterStation.getLossFactor())
                 .properties(getProperties(lccConverterStation))
@@ -63,8 +65,8 @@ public final class LccConverterStationInfosMapper {
         }
 
         // voltageLevel and substation properties
-        builder.voltageLevelProperties(getProperties(terminal.getVoltageLevel()));
-        builder.substationProperties(terminal.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null));
+        builder.voltageLevelProperties(voltageLevel.properties());
+        builder.substationProperties(voltageLevel.substationProperties());
 
         builder.measurementP(ExtensionUtils.toMeasurement(lccConverterStation, Type.ACTIVE_POWER, 0))
             .measurementQ(ExtensionUtils.toMeasurement(lccConverterStation, Type.REACTIVE_POWER, 0));
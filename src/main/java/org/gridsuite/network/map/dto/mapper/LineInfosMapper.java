@@ -37,7 +37,7 @@ public final class LineInfosMapper extends BranchInfosMapper {
         boolean loadOperationalLimitGroups = Optional.ofNullable(infoTypeParameters.getOptionalParameters().get(QUERY_PARAM_LOAD_OPERATIONAL_LIMIT_GROUPS))
             .map(Boolean::valueOf).orElse(false);
         return switch (infoTypeParameters.getInfoType()) {
-            case TAB -> toTabInfos(identifiable, dcPowerFactor, loadOperationalLimitGroups);
+            case TAB -> toTabInfos(identifiable, infoTypeParameters, dcPowerFactor, loadOperationalLimitGroups);
             case FORM -> toFormInfos(identifiable);
             case MAP -> toMapInfos(identifiable, dcPowerFactor);
             case LIST -> ElementInfosMapper.toListInfos(identifiable);
@@ -133,9 +133,9 @@ public final class LineInfosMapper extends BranchInfosMapper {
                 .build();
     }
 
-    private static LineTabInfos toTabInfos(Identifiable<?> identifiable, Double dcPowerFactor, boolean loadOperationalLimitGroups) {
+    private static LineTabInfos toTabInfos(Identifiable<?> identifiable, InfoTypeParameters infoTypeParameters, Double dcPowerFactor, boolean loadOperationalLimitGroups) {
         final Line line = (Line) identifiable;
-        return toTabBuilder((LineTabInfosBuilder<LineTabInfos, ?>) LineTabInfos.builder(), line, dcPowerFactor, loadOperationalLimitGroups)
+        return toTabBuilder((LineTabInfosBuilder<LineTabInfos, ?>) LineTabInfos.builder(), line, infoTypeParameters, dcPowerFactor, loadOperationalLimitGroups)
                 .g1(line.getG1())
                 .b1(line.getB1())
                 .g2(line.getG2())
@@ -15,8 +15,9 @@ import org.gridsuite.network.map.dto.InfoTypeParameters;
 import org.gridsuite.network.map.dto.definition.load.LoadFormInfos;
 import org.gridsuite.network.map.dto.definition.load.LoadTabInfos;
 import org.gridsuite.network.map.dto.definition.load.LoadTooltipInfos;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
 import org.gridsuite.network.map.dto.utils.ExtensionUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 
 import static org.gridsuite.network.map.dto.utils.ElementUtils.*;
 
@@ -81,14 +82,15 @@ public final class LoadInfosMapper {
     private static LoadTabInfos toTabInfos(Identifiable<?> identifiable) {
         Load load = (Load) identifiable;
         Terminal terminal = load.getTerminal();
+        VoltageLevelAttributes voltageLevel = MappingContext.voltageLevel(terminal.getVoltageLevel());
         LoadTabInfos.LoadTabInfosBuilder<?, ?> builder = LoadTabInfos.builder()
                 .name(load.getOptionalName().orElse(null))
                 .id(load.getId())
                 .type(load.getLoadType())
                 .terminalConnected(terminal.isConnected())
-                .voltageLevelId(terminal.getVoltageLevel().getId())
-                .nominalVoltage(terminal.getVoltageLevel().getNominalV())
-                .country(mapCountry(terminal.getVoltageLevel().getSubstation().orElse(null)))
+                .voltageLevelId(voltageLevel.id())
+                .nominalVoltage(voltageLevel.nominalV())
+                .country(voltageLevel.country())
                 .p0(load.getP0())
                 .properties(getProperties(load))
                 .q0(load.getQ0());
@@ -103,8 +105,8 @@ public final class LoadInfosMapper {
         builder.connectablePosition(ExtensionUtils.toMapConnectablePosition(load, 0));
 
         // voltageLevel and substation properties
-        builder.voltageLevelProperties(getProperties(terminal.getVoltageLevel()));
-        builder.substationProperties(terminal.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null));
+        builder.voltageLevelProperties(voltageLevel.properties());
+        builder.substationProperties(voltageLevel.substationProperties());
 
         builder.measurementP(ExtensionUtils.toMeasurement(load, Type.ACTIVE_POWER, 0))
             .measurementQ(ExtensionUtils.toMeasurement(load, Type.REACTIVE_POWER, 0));
@@ -13,8 +13,9 @@ import org.gridsuite.network.map.dto.InfoTypeParameters;
 import org.gridsuite.network.map.dto.definition.shuntcompensator.ShuntCompensatorFormInfos;
 import org.gridsuite.network.map.dto.definition.shuntcompensator.ShuntCompensatorTabInfos;
 import org.gridsuite.network.map.dto.definition.topology.BusInfos;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
 import org.gridsuite.network.map.dto.utils.ExtensionUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 import static org.gridsuite.network.map.dto.utils.ElementUtils.*;
 
 /**
@@ -82,16 +83,17 @@ public final class ShuntCompensatorMapper {
         ShuntCompensator shuntCompensator = (ShuntCompensator) identifiable;
 
         Terminal terminal = shuntCompensator.getTerminal();
+        VoltageLevelAttributes voltageLevel = MappingContext.voltageLevel(terminal.getVoltageLevel());
         ShuntCompensatorTabInfos.ShuntCompensatorTabInfosBuilder<?, ?> builder = ShuntCompensatorTabInfos.builder()
                 .name(shuntCompensator.getOptionalName().orElse(null))
                 .id(shuntCompensator.getId())
                 .maximumSectionCount(shuntCompensator.getMaximumSectionCount())
                 .sectionCount(shuntCompensator.getSectionCount())
                 .terminalConnected(terminal.isConnected())
-                .voltageLevelId(terminal.getVoltageLevel().getId())
-                .nominalVoltage(terminal.getVoltageLevel().getNominalV())
+                .voltageLevelId(voltageLevel.id())
+                .nominalVoltage(voltageLevel.nominalV())
                 .properties(getProperties(shuntCompensator))
-                .country(mapCountry(terminal.getVoltageLevel().getSubstation().orElse(null)));
+                .country(voltageLevel.country());
 
         Bus bus = terminal.getBusView().getBus();
         if (bus != null && bus.getId() != null) {
@@ -109,7 +111,7 @@ public final class ShuntCompensatorMapper {
             bPerSection = shuntCompensator.getModel(ShuntCompensatorLinearModel.class).getBPerSection();
         }
         if (bPerSection != null) {
-            Double qAtNominalV = Math.abs(Math.pow(terminal.getVoltageLevel().getNominalV(), 2) * bPerSection);
+            Double qAtNominalV = Math.abs(Math.pow(voltageLevel.nominalV(), 2) * bPerSection);
             builder.maxQAtNominalV(qAtNominalV * shuntCompensator.getMaximumSectionCount());
             builder.maxSusceptance(bPerSection * shuntCompensator.getMaximumSectionCount());
         }
@@ -122,8 +124,8 @@ public final class ShuntCompensatorMapper {
         }
 
         // voltageLevel and substation properties
-        builder.voltageLevelProperties(getProperties(terminal.getVoltageLevel()));
-        builder.substationProperties(terminal.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null));
+        builder.voltageLevelProperties(voltageLevel.properties());
+        builder.substationProperties(voltageLevel.substationProperties());
 
         builder.connectablePosition(ExtensionUtils.toMapConnectablePosition(shuntCompensator, 0));
 
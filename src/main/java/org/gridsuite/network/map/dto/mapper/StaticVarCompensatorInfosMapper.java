@@ -16,8 +16,9 @@ import org.gridsuite.network.map.dto.InfoTypeParameters;
 import org.gridsuite.network.map.dto.definition.extension.StandbyAutomatonInfos;
 import org.gridsuite.network.map.dto.definition.staticvarcompensator.StaticVarCompensatorFormInfos;
 import org.gridsuite.network.map.dto.definition.staticvarcompensator.StaticVarCompensatorTabInfos;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
 import org.gridsuite.network.map.dto.utils.ExtensionUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 import org.springframework.lang.NonNull;
 
 import java.util.Optional;
@@ -72,13 +73,14 @@ public final class StaticVarCompensatorInfosMapper {
     private static StaticVarCompensatorTabInfos toTabInfos(Identifiable<?> identifiable) {
         StaticVarCompensator staticVarCompensator = (StaticVarCompensator) identifiable;
         Terminal terminal = staticVarCompensator.getTerminal();
+        VoltageLevelAttributes voltageLevel = MappingContext.voltageLevel(terminal.getVoltageLevel());
         StaticVarCompensatorTabInfos.StaticVarCompensatorTabInfosBuilder<?, ?> builder = StaticVarCompensatorTabInfos.builder()
                 .name(staticVarCompensator.getOptionalName().orElse(null))
                 .id(staticVarCompensator.getId())
                 .terminalConnected(terminal.isConnected())
-                .voltageLevelId(terminal.getVoltageLevel().getId())
-                .nominalV(terminal.getVoltageLevel().getNominalV())
-                .country(mapCountry(terminal.getVoltageLevel().getSubstation().orElse(null)))
+                .voltageLevelId(voltageLevel.id())
+                .nominalV(voltageLevel.nominalV())
+                .country(voltageLevel.country())
                 .properties(getProperties(staticVarCompensator))
                 .regulationMode(staticVarCompensator.getRegulationMode());
 
@@ -96,8 +98,8 @@ public final class StaticVarCompensatorInfosMapper {
         }
 
         // voltageLevel and substation properties
-        builder.voltageLevelProperties(getProperties(terminal.getVoltageLevel()));
-        builder.substationProperties(terminal.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null));
+        builder.voltageLevelProperties(voltageLevel.properties());
+        builder.substationProperties(voltageLevel.substationProperties());
 
         builder.measurementQ(ExtensionUtils.toMeasurement(staticVarCompensator, Type.REACTIVE_POWER, 0));
 
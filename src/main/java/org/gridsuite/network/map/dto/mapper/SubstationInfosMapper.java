@@ -13,9 +13,10 @@ import org.gridsuite.network.map.dto.InfoTypeParameters;
 import org.gridsuite.network.map.dto.definition.substation.SubstationFormInfos;
 import org.gridsuite.network.map.dto.definition.substation.SubstationMapInfos;
 import org.gridsuite.network.map.dto.definition.substation.SubstationTabInfos;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.SubstationAttributes;
 
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.gridsuite.network.map.dto.utils.ElementUtils.*;
@@ -60,15 +61,13 @@ public final class SubstationInfosMapper {
 
     private static SubstationTabInfos toTabInfos(Identifiable<?> identifiable) {
         Substation substation = (Substation) identifiable;
-        Map<String, String> properties = substation.getPropertyNames().stream()
-                .map(name -> Map.entry(name, substation.getProperty(name)))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        SubstationAttributes substationAttributes = MappingContext.substation(substation);
 
         return SubstationTabInfos.builder()
-                .name(substation.getOptionalName().orElse(null))
-                .id(substation.getId())
-                .country(mapCountry(substation))
-                .properties(properties.isEmpty() ? null : properties)
+                .name(substationAttributes.name())
+                .id(substationAttributes.id())
+                .country(substationAttributes.country())
+                .properties(substationAttributes.properties())
                 .voltageLevels(List.of())
                 .voltageLevels(substation.getVoltageLevelStream().map(VoltageLevelInfosMapper::toTabInfos).collect(Collectors.toList()))
                 .build();
@@ -12,13 +12,16 @@ import com.powsybl.iidm.network.extensions.DiscreteMeasurement.TapChanger;
 import com.powsybl.iidm.network.extensions.DiscreteMeasurement.Type;
 import com.powsybl.iidm.network.extensions.Measurement;
 import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementInfosWithProperties;
 import org.gridsuite.network.map.dto.InfoTypeParameters;
 import org.gridsuite.network.map.dto.common.TapChangerData;
 import org.gridsuite.network.map.dto.definition.threewindingstransformer.ThreeWindingsTransformerOperatingStatusInfos;
 import org.gridsuite.network.map.dto.definition.threewindingstransformer.ThreeWindingsTransformerTabInfos;
+import org.gridsuite.network.map.dto.definition.threewindingstransformer.ThreeWindingsTransformerTabInfos.Fields;
 import org.gridsuite.network.map.dto.definition.threewindingstransformer.ThreeWindingsTransformerTabInfos.ThreeWindingsTransformerTabInfosBuilder;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
 import org.gridsuite.network.map.dto.utils.ExtensionUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 import org.springframework.lang.NonNull;
 
 import java.util.List;
@@ -39,7 +42,7 @@ public final class ThreeWindingsTransformerInfosMapper {
         return switch (infoTypeParameters.getInfoType()) {
             case LIST -> ElementInfosMapper.toListInfos(identifiable);
             case OPERATING_STATUS -> toOperatingStatusInfos(identifiable);
-            case TAB -> toTabInfos(identifiable);
+            case TAB -> toTabInfos(identifiable, infoTypeParameters);
             default -> throw handleUnsupportedInfoType(infoTypeParameters.getInfoType(), "ThreeWindingsTransformer");
         };
     }
@@ -60,7 +63,7 @@ public final class ThreeWindingsTransformerInfosMapper {
                 .build();
     }
 
-    private static ThreeWindingsTransformerTabInfos toTabInfos(Identifiable<?> identifiable) {
+    private static ThreeWindingsTransformerTabInfos toTabInfos(Identifiable<?> identifiable, InfoTypeParameters infoTypeParameters) {
         ThreeWindingsTransformer threeWT = (ThreeWindingsTransformer) identifiable;
 
         final Leg leg1 = threeWT.getLeg1();
@@ -73,20 +76,30 @@ public final class ThreeWindingsTransformerInfosMapper {
         ThreeWindingsTransformerTabInfosBuilder<?, ?> builder = ThreeWindingsTransformerTabInfos.builder()
                 .name(threeWT.getOptionalName().orElse(null))
                 .id(threeWT.getId())
-                .properties(getProperties(threeWT))
-                .country(mapCountry(findFirstSubstation(List.of(terminal1, terminal2, terminal3))))
-                .measurementP1(ExtensionUtils.toMeasurement(threeWT, Measurement.Type.ACTIVE_POWER, 0))
-                .measurementP2(ExtensionUtils.toMeasurement(threeWT, Measurement.Type.ACTIVE_POWER, 1))
-                .measurementP3(ExtensionUtils.toMeasurement(threeWT, Measurement.Type.ACTIVE_POWER, 2))
-                .measurementQ1(ExtensionUtils.toMeasurement(threeWT, Measurement.Type.REACTIVE_POWER, 0))
-                .measurementQ2(ExtensionUtils.toMeasurement(threeWT, Measurement.Type.REACTIVE_POWER, 1))
-                .measurementQ3(ExtensionUtils.toMeasurement(threeWT, Measurement.Type.REACTIVE_POWER, 2))
-                .measurementRatioTap1(ExtensionUtils.toMeasurementTapChanger(threeWT, Type.TAP_POSITION, TapChanger.RATIO_TAP_CHANGER_1))
-                .measurementRatioTap2(ExtensionUtils.toMeasurementTapChanger(threeWT, Type.TAP_POSITION, TapChanger.RATIO_TAP_CHANGER_2))
-                .measurementRatioTap3(ExtensionUtils.toMeasurementTapChanger(threeWT, Type.TAP_POSITION, TapChanger.RATIO_TAP_CHANGER_3))
-                .measurementPhaseTap1(ExtensionUtils.toMeasurementTapChanger(threeWT, Type.TAP_POSITION, TapChanger.PHASE_TAP_CHANGER_1))
-                .measurementPhaseTap2(ExtensionUtils.toMeasurementTapChanger(threeWT, Type.TAP_POSITION, TapChanger.PHASE_TAP_CHANGER_2))
-                .measurementPhaseTap3(ExtensionUtils.toMeasurementTapChanger(threeWT, Type.TAP_POSITION, TapChanger.PHASE_TAP_CHANGER_3));
+                .country(mapCountry(findFirstSubstation(List.of(terminal1, terminal2, terminal3))));
+
+        // the properties and extensions are only computed when requested
+        if (infoTypeParameters.isFieldRequested(ElementInfosWithProperties.Fields.properties)) {
+            builder.properties(getProperties(threeWT));
+        }
+        if (infoTypeParameters.isAnyFieldRequested(Fields.measurementP1, Fields.measurementP2, Fields.measurementP3,
+                Fields.measurementQ1, Fields.measurementQ2, Fields.measurementQ3)) {
+            builder.measurementP1(ExtensionUtils.toMeasurement(threeWT, Measurement.Type.ACTIVE_POWER, 0))
+                    .measurementP2(ExtensionUtils.toMeasurement(threeWT, Measurement.Type.ACTIVE_POWER, 1))
+                    .measurementP3(ExtensionUtils.toMeasurement(threeWT, Measurement.Type.ACTIVE_POWER, 2))
+                    .measurementQ1(ExtensionUtils.toMeasurement(threeWT, Measurement.Type.REACTIVE_POWER, 0))
+                    .measurementQ2(ExtensionUtils.toMeasurement(threeWT, Measurement.Type.REACTIVE_POWER, 1))
+                    .measurementQ3(ExtensionUtils.toMeasurement(threeWT, Measurement.Type.REACTIVE_POWER, 2));
+        }
+        if (infoTypeParameters.isAnyFieldRequested(Fields.measurementRatioTap1, Fields.measurementRatioTap2, Fields.measurementRatioTap3,
+                Fields.measurementPhaseTap1, Fields.measurementPhaseTap2, Fields.measurementPhaseTap3)) {
+            builder.measurementRatioTap1(ExtensionUtils.toMeasurementTapChanger(threeWT, Type.TAP_POSITION, TapChanger.RATIO_TAP_CHANGER_1))
+                    .measurementRatioTap2(ExtensionUtils.toMeasurementTapChanger(threeWT, Type.TAP_POSITION, TapChanger.RATIO_TAP_CHANGER_2))
+                    .measurementRatioTap3(ExtensionUtils.toMeasurementTapChanger(threeWT, Type.TAP_POSITION, TapChanger.RATIO_TAP_CHANGER_3))
+                    .measurementPhaseTap1(ExtensionUtils.toMeasurementTapChanger(threeWT, Type.TAP_POSITION, TapChanger.PHASE_TAP_CHANGER_1))
+                    .measurementPhaseTap2(ExtensionUtils.toMeasurementTapChanger(threeWT, Type.TAP_POSITION, TapChanger.PHASE_TAP_CHANGER_2))
+                    .measurementPhaseTap3(ExtensionUtils.toMeasurementTapChanger(threeWT, Type.TAP_POSITION, TapChanger.PHASE_TAP_CHANGER_3));
+        }
 
         processTerminal(terminal1,
                 builder::terminal1Connected, builder::voltageLevelId1, builder::nominalV1, builder::voltageLevelProperties1, builder::substationProperties1,
@@ -122,11 +135,11 @@ public final class ThreeWindingsTransformerInfosMapper {
                                         @NonNull final Consumer<Map<String, String>> setSubstationProperties,
                                         @NonNull final DoubleConsumer p, @NonNull final DoubleConsumer q, @NonNull final DoubleConsumer i) {
         setTerminalConnected.accept(terminal.isConnected());
-        final VoltageLevel voltageLevel = terminal.getVoltageLevel();
-        setVoltageLevelId.accept(voltageLevel.getId());
-        setNominalV.accept(voltageLevel.getNominalV());
-        setVoltageLevelProperties.accept(getProperties(voltageLevel));
-        setSubstationProperties.accept(voltageLevel.getSubstation().map(ElementUtils::getProperties).orElse(null));
+        final VoltageLevelAttributes voltageLevel = MappingContext.voltageLevel(terminal.getVoltageLevel());
+        setVoltageLevelId.accept(voltageLevel.id());
+        setNominalV.accept(voltageLevel.nominalV());
+        setVoltageLevelProperties.accept(voltageLevel.properties());
+        setSubstationProperties.accept(voltageLevel.substationProperties());
         setIfNotNan(p, terminal.getP());
         setIfNotNan(q, terminal.getQ());
         setIfNotNan(i, terminal.getI());
@@ -13,8 +13,9 @@ import org.gridsuite.network.map.dto.ElementInfos;
 import org.gridsuite.network.map.dto.InfoTypeParameters;
 import org.gridsuite.network.map.dto.definition.tieline.TieLineMapInfos;
 import org.gridsuite.network.map.dto.definition.tieline.TieLineTabInfos;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
 import org.gridsuite.network.map.dto.utils.ExtensionUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 
 import java.util.List;
 
@@ -72,25 +73,27 @@ public final class TieLineInfosMapper extends BranchInfosMapper {
         TieLine tieLine = (TieLine) identifiable;
         Terminal terminal1 = tieLine.getTerminal1();
         Terminal terminal2 = tieLine.getTerminal2();
+        VoltageLevelAttributes voltageLevel1 = MappingContext.voltageLevel(terminal1.getVoltageLevel());
+        VoltageLevelAttributes voltageLevel2 = MappingContext.voltageLevel(terminal2.getVoltageLevel());
         TieLineTabInfos.TieLineTabInfosBuilder<?, ?> builder = TieLineTabInfos.builder()
             .name(tieLine.getOptionalName().orElse(null))
             .id(tieLine.getId())
             .terminal1Connected(terminal1.isConnected())
             .terminal2Connected(terminal2.isConnected())
-            .voltageLevelId1(terminal1.getVoltageLevel().getId())
-            .voltageLevelName1(terminal1.getVoltageLevel().getOptionalName().orElse(null))
-            .nominalVoltage1(terminal1.getVoltageLevel().getNominalV())
-            .voltageLevelId2(terminal2.getVoltageLevel().getId())
-            .voltageLevelName2(terminal2.getVoltageLevel().getOptionalName().orElse(null))
-            .nominalVoltage2(terminal2.getVoltageLevel().getNominalV())
-            .country1(mapCountry(terminal1.getVoltageLevel().getSubstation().orElse(null)))
-            .country2(mapCountry(terminal2.getVoltageLevel().getSubstation().orElse(null)))
+            .voltageLevelId1(voltageLevel1.id())
+            .voltageLevelName1(voltageLevel1.name())
+            .nominalVoltage1(voltageLevel1.nominalV())
+            .voltageLevelId2(voltageLevel2.id())
+            .voltageLevelName2(voltageLevel2.name())
+            .nominalVoltage2(voltageLevel2.nominalV())
+            .country1(voltageLevel1.country())
+            .country2(voltageLevel2.country())
             .p1(nullIfNan(terminal1.getP()))
             .q1(nullIfNan(terminal1.getQ()))
             .p2(nullIfNan(terminal2.getP()))
             .q2(nullIfNan(terminal2.getQ()))
-            .i1(nullIfNan(computeIntensity(terminal1, dcPowerFactor)))
-            .i2(nullIfNan(computeIntensity(terminal2, dcPowerFactor)))
+            .i1(nullIfNan(computeIntensity(terminal1, voltageLevel1.nominalV(), dcPowerFactor)))
+            .i2(nullIfNan(computeIntensity(terminal2, voltageLevel2.nominalV(), dcPowerFactor)))
             .r(tieLine.getR())
             .x(tieLine.getX())
             .g1(tieLine.getG1())
@@ -100,10 +103,10 @@ public final class TieLineInfosMapper extends BranchInfosMapper {
             .properties(getProperties(tieLine));
 
         // voltageLevels and substations properties
-        builder.voltageLevelProperties1(getProperties(terminal1.getVoltageLevel()));
-        builder.substationProperties1(terminal1.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null));
-        builder.voltageLevelProperties2(getProperties(terminal2.getVoltageLevel()));
-        builder.substationProperties2(terminal2.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null));
+        builder.voltageLevelProperties1(voltageLevel1.properties());
+        builder.substationProperties1(voltageLevel1.substationProperties());
+        builder.voltageLevelProperties2(voltageLevel2.properties());
+        builder.substationProperties2(voltageLevel2.substationProperties());
 
         return builder.build();
     }
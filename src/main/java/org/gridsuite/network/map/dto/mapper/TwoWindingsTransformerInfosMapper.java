@@ -48,7 +48,7 @@ public final class TwoWindingsTransformerInfosMapper extends BranchInfosMapper {
             case LIST -> ElementInfosMapper.toListInfos(identifiable);
             case OPERATING_STATUS -> toOperatingStatusInfos(identifiable);
             case TOOLTIP -> toTooltipInfos(identifiable, dcPowerFactor);
-            case TAB -> toTabInfos(identifiable, dcPowerFactor, loadOperationalLimitGroups);
+            case TAB -> toTabInfos(identifiable, infoTypeParameters, dcPowerFactor, loadOperationalLimitGroups);
             case FORM -> toFormInfos(identifiable);
             default -> throw handleUnsupportedInfoType(infoTypeParameters.getInfoType(), "TwoWindingsTransformer");
         };
@@ -105,23 +105,39 @@ public final class TwoWindingsTransformerInfosMapper extends BranchInfosMapper {
         return builder.build();
     }
 
-    private static TwoWindingsTransformerTabInfos toTabInfos(Identifiable<?> identifiable, Double dcPowerFactor, boolean loadOperationalLimitGroups) {
+    private static TwoWindingsTransformerTabInfos toTabInfos(Identifiable<?> identifiable, InfoTypeParameters infoTypeParameters, Double dcPowerFactor, boolean loadOperationalLimitGroups) {
         final TwoWindingsTransformer twoWT = (TwoWindingsTransformer) identifiable;
-        return toTabBuilder((TwoWindingsTransformerTabInfosBuilder<TwoWindingsTransformerTabInfos, ?>) TwoWindingsTransformerTabInfos.builder(), twoWT, dcPowerFactor, loadOperationalLimitGroups)
+        TwoWindingsTransformerTabInfosBuilder<TwoWindingsTransformerTabInfos, ?> builder = toTabBuilder((TwoWindingsTransformerTabInfosBuilder<TwoWindingsTransformerTabInfos, ?>) TwoWindingsTransformerTabInfos.builder(), twoWT, infoTypeParameters, dcPowerFactor, loadOperationalLimitGroups)
                 .country(ElementUtils.mapCountry(ElementUtils.findFirstSubstation(List.of(twoWT.getTerminal1(), twoWT.getTerminal2()))))
-                .phaseTapChanger(toMapData(twoWT.getPhaseTapChanger()))
-                .ratioTapChanger(toMapData(twoWT.getRatioTapChanger()))
                 .b(twoWT.getB())
                 .g(twoWT.getG())
                 .ratedU1(twoWT.getRatedU1())
                 .ratedU2(twoWT.getRatedU2())
-                .ratedS(nullIfNan(twoWT.getRatedS()))
-                .connectablePosition1(ExtensionUtils.toMapConnectablePosition(twoWT, 1))
-                .connectablePosition2(ExtensionUtils.toMapConnectablePosition(twoWT, 2))
-                .measurementRatioTap(ExtensionUtils.toMeasurementTapChanger(twoWT, DiscreteMeasurement.Type.TAP_POSITION, TapChanger.RATIO_TAP_CHANGER))
-                .measurementPhaseTap(ExtensionUtils.toMeasurementTapChanger(twoWT, DiscreteMeasurement.Type.TAP_POSITION, TapChanger.PHASE_TAP_CHANGER))
-                .toBeEstimated(toToBeEstimated(twoWT))
-                .build();
+                .ratedS(nullIfNan(twoWT.getRatedS()));
+
+        // the tap changers and extensions are only computed when requested
+        if (infoTypeParameters.isFieldRequested(TwoWindingsTransformerTabInfos.Fields.phaseTapChanger)) {
+            builder.phaseTapChanger(toMapData(twoWT.getPhaseTapChanger()));
+        }
+        if (infoTypeParameters.isFieldRequested(TwoWindingsTransformerTabInfos.Fields.ratioTapChanger)) {
+            builder.ratioTapChanger(toMapData(twoWT.getRatioTapChanger()));
+        }
+        if (infoTypeParameters.isFieldRequested(TwoWindingsTransformerTabInfos.Fields.connectablePosition1)) {
+            builder.connectablePosition1(ExtensionUtils.toMapConnectablePosition(twoWT, 1));
+        }
+        if (infoTypeParameters.isFieldRequested(TwoWindingsTransformerTabInfos.Fields.connectablePosition2)) {
+            builder.connectablePosition2(ExtensionUtils.toMapConnectablePosition(twoWT, 2));
+        }
+        if (infoTypeParameters.isFieldRequested(TwoWindingsTransformerTabInfos.Fields.measurementRatioTap)) {
+            builder.measurementRatioTap(ExtensionUtils.toMeasurementTapChanger(twoWT, DiscreteMeasurement.Type.TAP_POSITION, TapChanger.RATIO_TAP_CHANGER));
+        }
+        if (infoTypeParameters.isFieldRequested(TwoWindingsTransformerTabInfos.Fields.measurementPhaseTap)) {
+            builder.measurementPhaseTap(ExtensionUtils.toMeasurementTapChanger(twoWT, DiscreteMeasurement.Type.TAP_POSITION, TapChanger.PHASE_TAP_CHANGER));
+        }
+        if (infoTypeParameters.isFieldRequested(TwoWindingsTransformerTabInfos.Fields.toBeEstimated)) {
+            builder.toBeEstimated(toToBeEstimated(twoWT));
+        }
+        return builder.build();
     }
 
     private static TwoWindingsTransformerOperatingStatusInfos toOperatingStatusInfos(Identifiable<?> identifiable) {
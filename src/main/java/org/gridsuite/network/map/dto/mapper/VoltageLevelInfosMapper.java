@@ -19,8 +19,9 @@ import org.gridsuite.network.map.dto.definition.voltagelevel.VoltageLevelFormInf
 import org.gridsuite.network.map.dto.definition.voltagelevel.VoltageLevelMapInfos;
 import org.gridsuite.network.map.dto.definition.voltagelevel.VoltageLevelTabInfos;
 import org.gridsuite.network.map.dto.definition.voltagelevel.VoltageLevelTooltipInfos;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
 import org.gridsuite.network.map.dto.utils.ExtensionUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 import org.springframework.web.util.UriUtils;
 
 import java.nio.charset.StandardCharsets;
@@ -129,17 +130,18 @@ public final class VoltageLevelInfosMapper {
 
     static VoltageLevelTabInfos toTabInfos(Identifiable<?> identifiable) {
         VoltageLevel voltageLevel = (VoltageLevel) identifiable;
+        VoltageLevelAttributes voltageLevelAttributes = MappingContext.voltageLevel(voltageLevel);
 
         VoltageLevelTabInfos.VoltageLevelTabInfosBuilder<?, ?> builder = VoltageLevelTabInfos.builder()
-                .id(voltageLevel.getId())
-                .name(voltageLevel.getOptionalName().orElse(null))
-                .substationId(voltageLevel.getSubstation().map(Substation::getId).orElse(null))
-                .nominalV(voltageLevel.getNominalV())
-                .country(mapCountry(voltageLevel.getSubstation().orElse(null)))
+                .id(voltageLevelAttributes.id())
+                .name(voltageLevelAttributes.name())
+                .substationId(voltageLevelAttributes.substationId())
+                .nominalV(voltageLevelAttributes.nominalV())
+                .country(voltageLevelAttributes.country())
                 .lowVoltageLimit(nullIfNan(voltageLevel.getLowVoltageLimit()))
-                .properties(getProperties(voltageLevel))
+                .properties(voltageLevelAttributes.properties())
                 .highVoltageLimit(nullIfNan(voltageLevel.getHighVoltageLimit()))
-                .substationProperties(voltageLevel.getSubstation().map(ElementUtils::getProperties).orElse(null));
+                .substationProperties(voltageLevelAttributes.substationProperties());
         builder.identifiableShortCircuit(ExtensionUtils.toIdentifiableShortCircuit(voltageLevel));
 
         return builder.build();
@@ -14,8 +14,9 @@ import org.gridsuite.network.map.dto.InfoTypeParameters;
 import org.gridsuite.network.map.dto.common.MinMaxReactiveLimitsMapData;
 import org.gridsuite.network.map.dto.definition.vscconverterstation.VscConverterStationFormInfos;
 import org.gridsuite.network.map.dto.definition.vscconverterstation.VscConverterStationTabInfos;
-import org.gridsuite.network.map.dto.utils.ElementUtils;
 import org.gridsuite.network.map.dto.utils.ExtensionUtils;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 
 import static org.gridsuite.network.map.dto.utils.ElementUtils.*;
 
@@ -38,13 +39,14 @@ public final class VscConverterStationInfosMapper {
     private static VscConverterStationTabInfos toTabInfos(Identifiable<?> identifiable) {
         VscConverterStation vscConverterStation = (VscConverterStation) identifiable;
         Terminal terminal = vscConverterStation.getTerminal();
+        VoltageLevelAttributes voltageLevel = MappingContext.voltageLevel(terminal.getVoltageLevel());
         VscConverterStationTabInfos.VscConverterStationTabInfosBuilder<?, ?> builder = VscConverterStationTabInfos.builder();
         builder
                 .name(vscConverterStation.getOptionalName().orElse(null))
                 .id(vscConverterStation.getId())
-                .voltageLevelId(terminal.getVoltageLevel().getId())
-                .nominalV(terminal.getVoltageLevel().getNominalV())
-                .country(mapCountry(terminal.getVoltageLevel().getSubstation().orElse(null)))
+                .voltageLevelId(voltageLevel.id())
+                .nominalV(voltageLevel.nominalV())
+                .country(voltageLevel.country())
                 .terminalConnected(terminal.isConnected())
                 .lossFactor(vscConverterStation.getLossFactor())
                 .properties(getProperties(vscConverterStation))
@@ -68,8 +70,8 @@ public final class VscConverterStationInfosMapper {
         }
 
         // voltageLevel and substation properties
-        builder.voltageLevelProperties(getProperties(terminal.getVoltageLevel()));
-        builder.substationProperties(terminal.getVoltageLevel().getSubstation().map(ElementUtils::getProperties).orElse(null));
+        builder.voltageLevelProperties(voltageLevel.properties());
+        builder.substationProperties(voltageLevel.substationProperties());
 
         builder.measurementP(ExtensionUtils.toMeasurement(vscConverterStation, Type.ACTIVE_POWER, 0))
             .measurementQ(ExtensionUtils.toMeasurement(vscConverterStation, Type.REACTIVE_POWER, 0));
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.dto.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.gridsuite.network.map.dto.ColumnarElementsInfos;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class ColumnarUtils {
+    private ColumnarUtils() {
+    }
+
+    /**
+     * Transposes the elements infos into columns, only keeping the requested fields (see {@link #getColumns}).
+     * <p>
+     * The columns of texts and objects (properties, limits...) having repeated values are dictionary encoded: the
+     * distinct values are written once in the dictionary of the column, and the column holds their indexes.
+     */
+    public static ColumnarElementsInfos toColumnar(@NonNull List<ElementInfos> elementsInfos, @NonNull ObjectMapper objectMapper,
+                                                   @Nullable Collection<String> fields) {
+        JsonNodeFactory nodeFactory = objectMapper.getNodeFactory();
+        Map<String, ArrayNode> columns = new LinkedHashMap<>();
+        Map<String, ArrayNode> dictionaries = new LinkedHashMap<>();
+        getColumns(elementsInfos, objectMapper, fields).forEach((field, column) -> {
+            Map<JsonNode, Integer> dictionary = getDictionary(column);
+            ArrayNode columnNode = nodeFactory.arrayNode(column.size());
+            if (dictionary != null) {
+                column.forEach(value -> columnNode.add(isNull(value) ? nodeFactory.nullNode() : nodeFactory.numberNode(dictionary.get(value))));
+                dictionaries.put(field, nodeFactory.arrayNode(dictionary.size()).addAll(dictionary.keySet()));
+            } else {
+                column.forEach(value -> columnNode.add(isNull(value) ? nodeFactory.nullNode() : value));
+            }
+            columns.put(field, columnNode);
+        });
+        return ColumnarElementsInfos.builder()
+                .size(elementsInfos.size())
+                .columns(columns)
+                .dictionaries(dictionaries)
+                .build();
+    }
+
+    /**
+     * The JSON values of the requested fields of the elements infos (all of them if {@code fields} is {@code null} or
+     * empty, the id being always kept), by field. The value of a field missing in an element is {@code null}.
+     */
+    public static Map<String, List<JsonNode>> getColumns(@NonNull List<ElementInfos> elementsInfos, @NonNull ObjectMapper objectMapper,
+                                                         @Nullable Collection<String> fields) {
+        Map<String, List<JsonNode>> columns = new LinkedHashMap<>();
+        for (int i = 0; i < elementsInfos.size(); i++) {
+            ObjectNode elementNode = objectMapper.valueToTree(elementsInfos.get(i));
+            int index = i;
+            elementNode.properties().forEach(field -> {
+                if (fields == null || fields.isEmpty() || fields.contains(field.getKey()) || "id".equals(field.getKey())) {
+                    List<JsonNode> column = columns.computeIfAbsent(field.getKey(), key -> new ArrayList<>(elementsInfos.size()));
+                    // a field missing in the previous elements
+                    while (column.size() < index) {
+                        column.add(null);
+                    }
+                    column.add(field.getValue());
+                }
+            });
+        }
+        columns.values().forEach(column -> {
+            while (column.size() < elementsInfos.size()) {
+                column.add(null);
+            }
+        });
+        return columns;
+    }
+
+    /**
+     * The indexes of the distinct values of a column, {@code null} if it should not be dictionary encoded: when it holds
+     * numbers or booleans, or when its values are not repeated.
+     */
+    @Nullable
+    private static Map<JsonNode, Integer> getDictionary(List<JsonNode> column) {
+        Map<JsonNode, Integer> dictionary = new LinkedHashMap<>();
+        int count = 0;
+        for (JsonNode value : column) {
+            if (isNull(value)) {
+                continue;
+            }
+            if (value.isValueNode() && !value.isTextual()) {
+                return null;
+            }
+            dictionary.putIfAbsent(value, dictionary.size());
+            count++;
+        }
+        return dictionary.size() < count ? dictionary : null;
+    }
+
+    public static boolean isNull(@Nullable JsonNode value) {
+        return value == null || value.isNull();
+    }
+}
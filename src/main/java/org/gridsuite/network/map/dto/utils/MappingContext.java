@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.dto.utils;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.VoltageLevel;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes the attributes of the voltage levels and substations that the mappers copy into the infos of each element,
+ * so that they are computed once per request instead of once per element (or per element side).
+ * <p>
+ * The context is bound to the current thread by {@link #run(Supplier)} for the duration of a read of the network. Out of
+ * a context, the attributes are computed on each call.
+ */
+public final class MappingContext {
+    private static final ThreadLocal<MappingContext> CURRENT = new ThreadLocal<>();
+
+    private final ConcurrentMap<String, VoltageLevelAttributes> voltageLevels = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, SubstationAttributes> substations = new ConcurrentHashMap<>();
+
+    private MappingContext() {
+    }
+
+    /**
+     * Run {@code supplier} within a new context, or within the current one if there is already one.
+     */
+    public static <T> T run(@NonNull final Supplier<T> supplier) {
+        if (CURRENT.get() != null) {
+            return supplier.get();
+        }
+        CURRENT.set(new MappingContext());
+        try {
+            return supplier.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    public static VoltageLevelAttributes voltageLevel(@NonNull final VoltageLevel voltageLevel) {
+        MappingContext context = CURRENT.get();
+        return context != null ?
+                context.voltageLevels.computeIfAbsent(voltageLevel.getId(), id -> toAttributes(voltageLevel)) :
+                toAttributes(voltageLevel);
+    }
+
+    @Nullable
+    public static SubstationAttributes substation(@Nullable final Substation substation) {
+        if (substation == null) {
+            return null;
+        }
+        MappingContext context = CURRENT.get();
+        return context != null ?
+                context.substations.computeIfAbsent(substation.getId(), id -> toAttributes(substation)) :
+                toAttributes(substation);
+    }
+
+    /**
+     * The attributes of the voltage levels computed so far in the current context, none out of a context.
+     */
+    public static Collection<VoltageLevelAttributes> getVoltageLevels() {
+        MappingContext context = CURRENT.get();
+        return context != null ? context.voltageLevels.values() : List.of();
+    }
+
+    /**
+     * The attributes of the substations computed so far in the current context, none out of a context.
+     */
+    public static Collection<SubstationAttributes> getSubstations() {
+        MappingContext context = CURRENT.get();
+        return context != null ? context.substations.values() : List.of();
+    }
+
+    private static VoltageLevelAttributes toAttributes(VoltageLevel voltageLevel) {
+        return new VoltageLevelAttributes(voltageLevel.getId(),
+                voltageLevel.getOptionalName().orElse(null),
+                voltageLevel.getNominalV(),
+                ElementUtils.getProperties(voltageLevel),
+                substation(voltageLevel.getSubstation().orElse(null)));
+    }
+
+    private static SubstationAttributes toAttributes(Substation substation) {
+        return new SubstationAttributes(substation.getId(),
+                substation.getOptionalName().orElse(null),
+                ElementUtils.mapCountry(substation),
+                ElementUtils.getProperties(substation));
+    }
+
+    public record SubstationAttributes(String id, String name, Country country, Map<String, String> properties) { }
+
+    public record VoltageLevelAttributes(String id, String name, double nominalV, Map<String, String> properties,
+                                         @Nullable SubstationAttributes substation) {
+        public String substationId() {
+            return substation != null ? substation.id() : null;
+        }
+
+        public String substationName() {
+            return substation != null ? substation.name() : null;
+        }
+
+        public Country country() {
+            return substation != null ? substation.country() : null;
+        }
+
+        public Map<String, String> substationProperties() {
+            return substation != null ? substation.properties() : null;
+        }
+    }
+}
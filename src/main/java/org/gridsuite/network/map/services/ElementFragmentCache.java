@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.InfoTypeParameters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Keeps the serialized infos of each element, so that the responses listing many elements are assembled from the
+ * fragments of their elements instead of mapping and serializing them again.
+ * <p>
+ * The fragments are keyed by the revision of the network instance they were computed from (see
+ * {@link NetworkCache#readWithRevision}), the type of the element, its info type parameters and requested fields, and
+ * its id. A network instance being never modified once loaded, its fragments stay valid as long as it is cached: when
+ * it is evicted, the next instance loaded has a new revision and the fragments of the previous one are no longer read,
+ * until they are evicted by the size limit or the expiration.
+ */
+@Component
+public class ElementFragmentCache {
+    private final boolean enabled;
+
+    private final Cache<FragmentKey, byte[]> cache;
+
+    public ElementFragmentCache(NetworkCache networkCache,
+                                @Value("${network-map.fragment-cache.enabled:false}") boolean enabled,
+                                @Value("${network-map.fragment-cache.max-size:256MB}") DataSize maxSize,
+                                @Value("${network-map.cache.expire-after-access:PT10M}") Duration expireAfterAccess) {
+        // the fragments computed from a network instance are only reused while the instance is cached
+        this.enabled = enabled && networkCache.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((FragmentKey key, byte[] fragment) -> fragment.length)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get the fragments of the given elements, in their order. The fragments not cached yet are computed together by
+     * {@code fragmentsComputer}, which returns them in the order of the elements it is given, then cached.
+     */
+    public <E> List<byte[]> getFragments(long revision, ElementType elementType, InfoTypeParameters infoTypeParameters, @NonNull List<E> elements,
+                                         Function<E, String> idGetter, Function<List<E>, List<byte[]>> fragmentsComputer) {
+        if (!enabled) {
+            return fragmentsComputer.apply(elements);
+        }
+        FragmentsScope scope = FragmentsScope.of(revision, elementType, infoTypeParameters);
+        List<byte[]> fragments = new ArrayList<>(elements.size());
+        List<Integer> missingIndexes = new ArrayList<>();
+        List<E> missingElements = new ArrayList<>();
+        for (E element : elements) {
+            byte[] fragment = cache.getIfPresent(new FragmentKey(scope, idGetter.apply(element)));
+            if (fragment == null) {
+                missingIndexes.add(fragments.size());
+                missingElements.add(element);
+            }
+            fragments.add(fragment);
+        }
+        if (!missingElements.isEmpty()) {
+            // the missing fragments are computed out of the cache and together, so that their infos can be serialized concurrently
+            List<byte[]> missingFragments = fragmentsComputer.apply(missingElements);
+            for (int i = 0; i < missingElements.size(); i++) {
+                cache.put(new FragmentKey(scope, idGetter.apply(missingElements.get(i))), missingFragments.get(i));
+                fragments.set(missingIndexes.get(i), missingFragments.get(i));
+            }
+        }
+        return fragments;
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * What the fragments of the elements of a request depend on, apart from the element itself.
+     */
+    private record FragmentsScope(long revision, ElementType elementType, ElementInfos.InfoType infoType,
+                                  Map<String, String> optionalParameters, @Nullable Set<String> fields) {
+        static FragmentsScope of(long revision, ElementType elementType, InfoTypeParameters infoTypeParameters) {
+            Set<String> fields = infoTypeParameters.getFields();
+            return new FragmentsScope(revision, elementType, infoTypeParameters.getInfoType(),
+                    new HashMap<>(infoTypeParameters.getOptionalParameters()),
+                    fields == null || fields.isEmpty() ? null : new HashSet<>(fields));
+        }
+    }
+
+    private record FragmentKey(FragmentsScope scope, String elementId) {
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.powsybl.iidm.network.VariantManagerConstants;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.ElementsDeltaInfos;
+import org.gridsuite.network.map.dto.InfoTypeParameters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Pushes the changes of the elements of a network variant to its subscribers, as server-sent events: a first batch with
+ * all the elements of the subscribed types when subscribing, then a batch with the changed elements each time the
+ * network changes (see {@link NetworkChangedEvent}). Each batch is made of an event per element type, named after the
+ * type, whose data is an {@link ElementsDeltaInfos}; the types without changes are not sent.
+ * <p>
+ * The changes are computed on virtual threads, one batch at a time for a subscriber, by comparing the elements with the
+ * ones of its previous batch (see {@link NetworkMapService#getElementsDelta}).
+ */
+@Component
+@Slf4j
+public class ElementsChangesSubscriptions {
+    private final NetworkMapService networkMapService;
+
+    private final Duration timeout;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ElementsChangesSubscriptions(NetworkMapService networkMapService,
+                                        @Value("${network-map.subscriptions.timeout:PT1H}") Duration timeout) {
+        this.networkMapService = networkMapService;
+        this.timeout = timeout;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter().complete());
+    }
+
+    /**
+     * Subscribe to the changes of the elements of a network variant.
+     *
+     * @param serializer the serializer of the infos of an element, whose serialized infos are compared to find the changes
+     */
+    public SseEmitter subscribe(UUID networkUuid, @Nullable String variantId, List<ElementType> elementTypes, InfoTypeParameters infoTypeParameters,
+                                Function<ElementInfos, byte[]> serializer) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = new Subscription(networkUuid, variantId != null ? variantId : VariantManagerConstants.INITIAL_VARIANT_ID,
+                List.copyOf(elementTypes), infoTypeParameters, serializer, emitter, new EnumMap<>(ElementType.class), new ReentrantLock());
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        executor.execute(() -> push(subscription));
+        return emitter;
+    }
+
+    @EventListener
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        subscriptions.stream()
+                .filter(subscription -> subscription.networkUuid().equals(event.networkUuid())
+                        && (event.variantId() == null || subscription.variantId().equals(event.variantId())))
+                .forEach(subscription -> executor.execute(() -> push(subscription)));
+    }
+
+    private void push(Subscription subscription) {
+        // the batches of a subscriber are computed one at a time, each one from the tokens of the previous one, with a lock
+        // which doesn't pin the carrier thread of the virtual thread while it waits
+        subscription.lock().lock();
+        try {
+            if (!subscriptions.contains(subscription)) {
+                return;
+            }
+            try {
+                for (ElementType elementType : subscription.elementTypes()) {
+                    ElementsDeltaInfos delta = networkMapService.getElementsDelta(subscription.networkUuid(), subscription.variantId(), List.of(), elementType,
+                            subscription.infoTypeParameters(), null, subscription.tokens().get(elementType), subscription.serializer());
+                    subscription.tokens().put(elementType, delta.getToken());
+                    if (delta.isFull() || !delta.getAdded().isEmpty() || !delta.getModified().isEmpty() || !delta.getRemoved().isEmpty()) {
+                        subscription.emitter().send(SseEmitter.event().name(elementType.name()).data(delta));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("Changes of network {} (variant {}) not pushed to a subscriber", subscription.networkUuid(), subscription.variantId(), e);
+                subscriptions.remove(subscription);
+                subscription.emitter().completeWithError(e);
+            }
+        } finally {
+            subscription.lock().unlock();
+        }
+    }
+
+    /**
+     * A subscriber, with the tokens of the last batch it was sent by element type, and the lock of its batches.
+     * Subscriptions are compared by identity.
+     */
+    private record Subscription(UUID networkUuid, String variantId, List<ElementType> elementTypes, InfoTypeParameters infoTypeParameters,
+                                Function<ElementInfos, byte[]> serializer, SseEmitter emitter, Map<ElementType, String> tokens, ReentrantLock lock) {
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
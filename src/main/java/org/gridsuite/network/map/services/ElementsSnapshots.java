@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.InfoTypeParameters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps the fingerprints of the elements returned by the elements delta requests, by token, so that the next request
+ * of a client only returns the elements changed since its previous one.
+ * <p>
+ * A snapshot is only used by the requests with the same parameters as the one it was taken for, and is replaced by the
+ * snapshot of the next request of the client. The snapshots are bounded by their total number of fingerprints and expire
+ * when they are not used, the requests with an unknown token getting all the elements.
+ */
+@Component
+public class ElementsSnapshots {
+    private final Cache<String, Snapshot> cache;
+
+    public ElementsSnapshots(@Value("${network-map.delta.max-fingerprints:1000000}") long maxFingerprints,
+                             @Value("${network-map.delta.expire-after-access:PT1H}") Duration expireAfterAccess) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxFingerprints)
+                .weigher((String token, Snapshot snapshot) -> snapshot.fingerprints().size())
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    public static SnapshotScope getScope(UUID networkUuid, @Nullable String variantId, @NonNull List<String> substationsIds, ElementType elementType,
+                                         InfoTypeParameters infoTypeParameters, @Nullable List<Double> nominalVoltages) {
+        Set<String> fields = infoTypeParameters.getFields();
+        return new SnapshotScope(networkUuid, variantId != null ? variantId : VariantManagerConstants.INITIAL_VARIANT_ID, List.copyOf(substationsIds),
+                elementType, infoTypeParameters.getInfoType(), new HashMap<>(infoTypeParameters.getOptionalParameters()),
+                fields == null || fields.isEmpty() ? null : new HashSet<>(fields), nominalVoltages != null ? List.copyOf(nominalVoltages) : null);
+    }
+
+    /**
+     * The snapshot of a token, {@code null} if the token is unknown or was given for a request with other parameters.
+     */
+    @Nullable
+    public Snapshot get(@Nullable String token, SnapshotScope scope) {
+        Snapshot snapshot = token != null ? cache.getIfPresent(token) : null;
+        return snapshot != null && snapshot.scope().equals(scope) ? snapshot : null;
+    }
+
+    /**
+     * Keep a snapshot replacing the one of {@code previousToken} if any, and return its token.
+     */
+    public String replace(@Nullable String previousToken, Snapshot snapshot) {
+        String token = UUID.randomUUID().toString();
+        cache.put(token, snapshot);
+        if (previousToken != null) {
+            cache.invalidate(previousToken);
+        }
+        return token;
+    }
+
+    /**
+     * The parameters of the request a snapshot was taken for.
+     */
+    public record SnapshotScope(UUID networkUuid, String variantId, List<String> substationsIds, ElementType elementType,
+                                ElementInfos.InfoType infoType, Map<String, String> optionalParameters, @Nullable Set<String> fields,
+                                @Nullable List<Double> nominalVoltages) {
+    }
+
+    /**
+     * The fingerprints of the elements by id, and the revision of the network instance they were computed from (see
+     * {@link NetworkCache#getCachedRevision}).
+     */
+    public record Snapshot(SnapshotScope scope, long revision, Map<String, Long> fingerprints) {
+    }
+}
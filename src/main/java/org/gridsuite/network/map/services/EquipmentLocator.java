@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.powsybl.iidm.network.*;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.gridsuite.network.map.dto.EquipmentLocationInfos;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * An index of the equipments of the network variants, giving the type, voltage levels and substations of each
+ * equipment by id without reading the network. The index of a variant is built from the network loaded with all its
+ * collections the first time it is needed, then reused as long as the same network instance is cached for the variant
+ * (see {@link NetworkCache#getCachedRevision}). The index is only used when the network cache is enabled. The lookups
+ * of a single element only use an index already built (see {@link #locateIfIndexed}), building it being more expensive
+ * than reading the element on the network itself.
+ * <p>
+ * The ids of the voltage levels and substations are stored once per variant, the equipments referencing them by
+ * their ordinals.
+ */
+@Component
+@Slf4j
+public class EquipmentLocator {
+    private final boolean enabled;
+
+    private final NetworkCache networkCache;
+
+    private final Cache<IndexKey, Index> indexes;
+
+    public EquipmentLocator(NetworkCache networkCache,
+                            @Value("${network-map.locator.enabled:false}") boolean enabled,
+                            @Value("${network-map.locator.max-size:10}") long maxSize,
+                            @Value("${network-map.cache.expire-after-access:PT10M}") Duration expireAfterAccess) {
+        this.enabled = enabled && networkCache.isEnabled();
+        this.networkCache = networkCache;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The location of an equipment, {@code null} if the variant has no equipment with this id.
+     */
+    @Nullable
+    public EquipmentLocationInfos locate(UUID networkUuid, @Nullable String variantId, String equipmentId) {
+        return getIndex(networkUuid, variantId).locate(equipmentId);
+    }
+
+    /**
+     * The locations of the equipments found in the variant, in the order of the ids.
+     */
+    public List<EquipmentLocationInfos> locate(UUID networkUuid, @Nullable String variantId, List<String> equipmentIds) {
+        Index index = getIndex(networkUuid, variantId);
+        return equipmentIds.stream()
+                .distinct()
+                .map(index::locate)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * The location of an equipment from the index of the network instance cached for the variant, {@code null} if this
+     * index is not built yet (it is not built by this method), or if the variant has no equipment with this id.
+     */
+    @Nullable
+    public EquipmentLocationInfos locateIfIndexed(UUID networkUuid, @Nullable String variantId, String equipmentId) {
+        if (!enabled) {
+            return null;
+        }
+        Index cachedIndex = getCachedIndex(networkUuid, getVariant(variantId));
+        return cachedIndex != null ? cachedIndex.locate(equipmentId) : null;
+    }
+
+    private static String getVariant(@Nullable String variantId) {
+        return variantId != null ? variantId : VariantManagerConstants.INITIAL_VARIANT_ID;
+    }
+
+    /**
+     * The index of the network instance cached for the variant, read without locking the network, {@code null} if it is
+     * not built.
+     */
+    @Nullable
+    private Index getCachedIndex(UUID networkUuid, String variant) {
+        OptionalLong cachedRevision = networkCache.getCachedRevision(networkUuid, variant);
+        return cachedRevision.isPresent() ? indexes.getIfPresent(new IndexKey(networkUuid, variant, cachedRevision.getAsLong())) : null;
+    }
+
+    private Index getIndex(UUID networkUuid, @Nullable String variantId) {
+        if (!enabled) {
+            throw new IllegalStateException("The equipment locator is disabled");
+        }
+        String variant = getVariant(variantId);
+        Index cachedIndex = getCachedIndex(networkUuid, variant);
+        if (cachedIndex != null) {
+            return cachedIndex;
+        }
+        return networkCache.readWithRevision(networkUuid, PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW, variant, (network, loadedStrategy, revision) -> {
+            // the indexes of the previous instances of the variant are not used anymore
+            indexes.asMap().keySet().removeIf(key -> key.networkUuid().equals(networkUuid) && key.variantId().equals(variant) && key.revision() != revision);
+            return indexes.get(new IndexKey(networkUuid, variant, revision), key -> buildIndex(network));
+        });
+    }
+
+    @EventListener
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        indexes.asMap().keySet().removeIf(key -> key.networkUuid().equals(event.networkUuid())
+                && (event.variantId() == null || key.variantId().equals(event.variantId())));
+    }
+
+    /**
+     * The location of an equipment read from the network, for the networks without index.
+     */
+    public static EquipmentLocationInfos getLocation(Identifiable<?> identifiable) {
+        List<VoltageLevel> voltageLevels = getVoltageLevels(identifiable);
+        return EquipmentLocationInfos.builder()
+                .id(identifiable.getId())
+                .type(identifiable.getType())
+                .voltageLevelIds(voltageLevels.stream().map(VoltageLevel::getId).toList())
+                .substationIds(identifiable instanceof Substation substation ?
+                        List.of(substation.getId()) :
+                        voltageLevels.stream().map(VoltageLevel::getSubstation).flatMap(Optional::stream).map(Substation::getId).distinct().toList())
+                .build();
+    }
+
+    /**
+     * The voltage levels of the terminals of an equipment, by side for the branches, three windings transformers and
+     * HVDC lines, and the voltage levels of a substation.
+     */
+    static List<VoltageLevel> getVoltageLevels(Identifiable<?> identifiable) {
+        return switch (identifiable) {
+            case Substation substation -> substation.getVoltageLevelStream().toList();
+            case VoltageLevel voltageLevel -> List.of(voltageLevel);
+            case Branch<?> branch -> List.of(branch.getTerminal1().getVoltageLevel(), branch.getTerminal2().getVoltageLevel());
+            case ThreeWindingsTransformer transformer -> List.of(transformer.getLeg1().getTerminal().getVoltageLevel(),
+                    transformer.getLeg2().getTerminal().getVoltageLevel(), transformer.getLeg3().getTerminal().getVoltageLevel());
+            case HvdcLine hvdcLine -> List.of(hvdcLine.getConverterStation1().getTerminal().getVoltageLevel(),
+                    hvdcLine.getConverterStation2().getTerminal().getVoltageLevel());
+            case Connectable<?> connectable -> connectable.getTerminals().stream().<VoltageLevel>map(Terminal::getVoltageLevel).distinct().toList();
+            case Bus bus -> List.of(bus.getVoltageLevel());
+            case Switch networkSwitch -> List.of(networkSwitch.getVoltageLevel());
+            default -> List.of();
+        };
+    }
+
+    private static Index buildIndex(Network network) {
+        long startTime = System.nanoTime();
+        List<Substation> substations = network.getSubstationStream().toList();
+        Map<String, Integer> substationOrdinals = new HashMap<>(substations.size() * 2);
+        String[] substationIds = new String[substations.size()];
+        for (int i = 0; i < substationIds.length; i++) {
+            substationIds[i] = substations.get(i).getId();
+            substationOrdinals.put(substationIds[i], i);
+        }
+        List<VoltageLevel> voltageLevels = network.getVoltageLevelStream().toList();
+        Map<String, Integer> voltageLevelOrdinals = new HashMap<>(voltageLevels.size() * 2);
+        String[] voltageLevelIds = new String[voltageLevels.size()];
+        for (int i = 0; i < voltageLevelIds.length; i++) {
+            voltageLevelIds[i] = voltageLevels.get(i).getId();
+            voltageLevelOrdinals.put(voltageLevelIds[i], i);
+        }
+
+        Map<String, Location> locations = new HashMap<>();
+        for (Identifiable<?> identifiable : network.getIdentifiables()) {
+            EquipmentLocationInfos location = getLocation(identifiable);
+            locations.put(identifiable.getId(), new Location(identifiable.getType(),
+                    location.getVoltageLevelIds().stream().mapToInt(voltageLevelOrdinals::get).toArray(),
+                    location.getSubstationIds().stream().mapToInt(substationOrdinals::get).toArray()));
+        }
+        log.info("Equipment index of network {} (variant {}) built in {} ms: {} equipments", network.getId(),
+                network.getVariantManager().getWorkingVariantId(), Duration.ofNanos(System.nanoTime() - startTime).toMillis(), locations.size());
+        return new Index(voltageLevelIds, substationIds, locations);
+    }
+
+    private record IndexKey(UUID networkUuid, String variantId, long revision) { }
+
+    private record Location(IdentifiableType type, int[] voltageLevels, int[] substations) { }
+
+    private record Index(String[] voltageLevelIds, String[] substationIds, Map<String, Location> locations) {
+        @Nullable
+        EquipmentLocationInfos locate(String equipmentId) {
+            Location location = locations.get(equipmentId);
+            if (location == null) {
+                return null;
+            }
+            return EquipmentLocationInfos.builder()
+                    .id(equipmentId)
+                    .type(location.type())
+                    .voltageLevelIds(Arrays.stream(location.voltageLevels()).mapToObj(i -> voltageLevelIds[i]).toList())
+                    .substationIds(Arrays.stream(location.substations()).mapToObj(i -> substationIds[i]).toList())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Keeps the networks loaded from the network store in memory, so that successive requests on the same network variant
+ * don't pay the network store round trips again.
+ * <p>
+ * Entries are keyed by network UUID and variant: each variant is read through its own network instance, whose working
+ * variant is set once when it is loaded, before the instance is shared with other requests. The working variant of a
+ * shared instance is never switched, so requests on different variants of the same network don't interfere and run in
+ * parallel. Networks from the network store are not thread-safe, so a given instance is read by one request at a time.
+ * <p>
+ * Concurrent loads of the same network, variant and preloading strategy are coalesced when the cache is enabled: the
+ * first request loads the network and the others wait for it, then read the same instance. When the cache is disabled,
+ * each request loads its own instance, so that identical requests are not serialized on a shared instance.
+ */
+@ComponentScan(basePackageClasses = {NetworkStoreService.class})
+@Service
+@Slf4j
+public class NetworkCache {
+    private final NetworkStoreService networkStoreService;
+
+    private final boolean enabled;
+
+    private final Cache<NetworkCacheKey, CachedNetwork> cache;
+
+    private final ConcurrentMap<NetworkLoadKey, CompletableFuture<CachedNetwork>> loadsInProgress = new ConcurrentHashMap<>();
+
+    private final AtomicLong revisions = new AtomicLong();
+
+    private final AtomicLong evictionsRevision = new AtomicLong();
+
+    private final ConcurrentMap<UUID, Long> networksEvictionRevisions = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<NetworkCacheKey, Long> variantsEvictionRevisions = new ConcurrentHashMap<>();
+
+    public NetworkCache(NetworkStoreService networkStoreService,
+                        @Value("${network-map.cache.enabled:false}") boolean enabled,
+                        @Value("${network-map.cache.max-size:10}") long maxSize,
+                        @Value("${network-map.cache.expire-after-access:PT10M}") Duration expireAfterAccess,
+                        @Value("${network-map.cache.expire-after-write:PT1H}") Duration expireAfterWrite) {
+        this.networkStoreService = networkStoreService;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .expireAfterWrite(expireAfterWrite)
+                .removalListener((NetworkCacheKey key, CachedNetwork value, RemovalCause cause) ->
+                        log.debug("Network {} (variant {}) removed from cache: {}", key.networkUuid(), key.variantId(), cause))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Apply {@code reader} on the network, loading it from the network store only if it is not cached yet, or if it was
+     * cached with a preloading strategy that doesn't cover the requested one.
+     */
+    public <T> T read(UUID networkUuid, PreloadingStrategy strategy, @Nullable String variantId, Function<Network, T> reader) {
+        return readWithStrategy(networkUuid, strategy, variantId, (network, loadedStrategy) -> reader.apply(network));
+    }
+
+    /**
+     * Same as {@link #read(UUID, PreloadingStrategy, String, Function)}, the reader also receiving the strategy the network
+     * was actually loaded with, which may preload more than the requested one.
+     */
+    public <T> T readWithStrategy(UUID networkUuid, PreloadingStrategy strategy, @Nullable String variantId, BiFunction<Network, PreloadingStrategy, T> reader) {
+        return readWithRevision(networkUuid, strategy, variantId, (network, loadedStrategy, revision) -> reader.apply(network, loadedStrategy));
+    }
+
+    /**
+     * Same as {@link #readWithStrategy(UUID, PreloadingStrategy, String, BiFunction)}, the reader also receiving the
+     * revision of the network instance: each instance loaded from the network store has a new revision, so what is
+     * computed from an instance can be reused as long as its revision is the same.
+     */
+    public <T> T readWithRevision(UUID networkUuid, PreloadingStrategy strategy, @Nullable String variantId, NetworkReader<T> reader) {
+        return readVariant(networkUuid, strategy, variantId != null ? variantId : VariantManagerConstants.INITIAL_VARIANT_ID, reader);
+    }
+
+    /**
+     * Same as {@link #readWithRevision(UUID, PreloadingStrategy, String, NetworkReader)}, for the readers which don't
+     * read the network at once, writing a response between their reads for example: the network instance is only locked
+     * during each read of {@code reads}, so that other requests can read it between them.
+     */
+    public <T> T readInSteps(UUID networkUuid, PreloadingStrategy strategy, @Nullable String variantId, Function<NetworkReads, T> reader) {
+        return reader.apply(getNetwork(networkUuid, strategy, variantId != null ? variantId : VariantManagerConstants.INITIAL_VARIANT_ID));
+    }
+
+    private <T> T readVariant(UUID networkUuid, PreloadingStrategy strategy, String variantId, NetworkReader<T> reader) {
+        return getNetwork(networkUuid, strategy, variantId).read(reader);
+    }
+
+    private CachedNetwork getNetwork(UUID networkUuid, PreloadingStrategy strategy, String variantId) {
+        if (enabled) {
+            CachedNetwork cachedNetwork = cache.getIfPresent(new NetworkCacheKey(networkUuid, variantId));
+            if (cachedNetwork != null && covers(cachedNetwork.strategy(), strategy)) {
+                return cachedNetwork;
+            }
+        }
+        return load(networkUuid, strategy, variantId);
+    }
+
+    private CachedNetwork load(UUID networkUuid, PreloadingStrategy strategy, String variantId) {
+        if (!enabled) {
+            return newCachedNetwork(networkUuid, strategy, variantId);
+        }
+        NetworkLoadKey loadKey = new NetworkLoadKey(networkUuid, variantId, strategy);
+        CompletableFuture<CachedNetwork> future = new CompletableFuture<>();
+        CompletableFuture<CachedNetwork> loadInProgress = loadsInProgress.putIfAbsent(loadKey, future);
+        if (loadInProgress != null) {
+            return await(loadInProgress);
+        }
+        CachedNetwork cachedNetwork;
+        try {
+            NetworkCacheKey key = new NetworkCacheKey(networkUuid, variantId);
+            long evictionRevision = getEvictionRevision(networkUuid, variantId);
+            cachedNetwork = newCachedNetwork(networkUuid, strategy, variantId);
+            cache.put(key, cachedNetwork);
+            // a variant evicted while it was loaded may have changed after the load: the instance is then not kept
+            if (getEvictionRevision(networkUuid, variantId) != evictionRevision) {
+                cache.asMap().remove(key, cachedNetwork);
+            }
+            future.complete(cachedNetwork);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadsInProgress.remove(loadKey, future);
+        }
+        return cachedNetwork;
+    }
+
+    private CachedNetwork newCachedNetwork(UUID networkUuid, PreloadingStrategy strategy, String variantId) {
+        return new CachedNetwork(loadNetwork(networkUuid, strategy, variantId), variantId, strategy, revisions.incrementAndGet(), new ReentrantLock());
+    }
+
+    private static CachedNetwork await(CompletableFuture<CachedNetwork> loadInProgress) {
+        try {
+            return loadInProgress.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Remove a network variant from the cache, or all the variants of the network if {@code variantId} is {@code null}.
+     */
+    public void evict(UUID networkUuid, @Nullable String variantId) {
+        if (variantId != null) {
+            variantsEvictionRevisions.put(new NetworkCacheKey(networkUuid, variantId), revisions.incrementAndGet());
+            cache.invalidate(new NetworkCacheKey(networkUuid, variantId));
+        } else {
+            networksEvictionRevisions.put(networkUuid, revisions.incrementAndGet());
+            cache.asMap().keySet().removeIf(key -> key.networkUuid().equals(networkUuid));
+        }
+    }
+
+    public void evictAll() {
+        evictionsRevision.set(revisions.incrementAndGet());
+        cache.invalidateAll();
+    }
+
+    /**
+     * The revision of the network instance cached for a variant (see
+     * {@link #readWithRevision(UUID, PreloadingStrategy, String, NetworkReader)}), empty if the variant is not cached.
+     * It changes each time the variant is removed from the cache and loaded again, whatever the cause of the removal
+     * (eviction, expiration, size), so what is computed from a variant is the same as long as it is the same.
+     */
+    public OptionalLong getCachedRevision(UUID networkUuid, @Nullable String variantId) {
+        if (!enabled) {
+            return OptionalLong.empty();
+        }
+        // the cached instance is looked up without being accessed, so that its expiration is not delayed
+        CachedNetwork cachedNetwork = cache.policy().getIfPresentQuietly(new NetworkCacheKey(networkUuid,
+                variantId != null ? variantId : VariantManagerConstants.INITIAL_VARIANT_ID));
+        return cachedNetwork != null ? OptionalLong.of(cachedNetwork.revision()) : OptionalLong.empty();
+    }
+
+    /**
+     * The revision of the last eviction of a network variant, explicitly or with its network: the evictions being the
+     * signal that a network has changed in the network store, a variant evicted while it was loaded may have changed.
+     */
+    private long getEvictionRevision(UUID networkUuid, String variantId) {
+        // the revisions of the evictions are all taken from the same sequence, so the greatest one is the last eviction
+        return Math.max(evictionsRevision.get(), Math.max(networksEvictionRevisions.getOrDefault(networkUuid, 0L),
+                variantsEvictionRevisions.getOrDefault(new NetworkCacheKey(networkUuid, variantId), 0L)));
+    }
+
+    /**
+     * Load a new network instance bound to {@code variantId}: this is the only place where the working variant is set,
+     * while the instance is not visible to other requests yet.
+     */
+    private Network loadNetwork(UUID networkUuid, PreloadingStrategy strategy, String variantId) {
+        try {
+            Network network = networkStoreService.getNetwork(networkUuid, strategy);
+            network.getVariantManager().setWorkingVariant(variantId);
+            return network;
+        } catch (PowsyblException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    /**
+     * Does a network loaded with the {@code cached} strategy have at least what the {@code requested} one would preload?
+     */
+    private static boolean covers(PreloadingStrategy cached, PreloadingStrategy requested) {
+        return rank(cached) >= rank(requested);
+    }
+
+    private static int rank(PreloadingStrategy strategy) {
+        return switch (strategy) {
+            case ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW -> 2;
+            case COLLECTION -> 1;
+            default -> 0;
+        };
+    }
+
+    private record NetworkCacheKey(UUID networkUuid, String variantId) { }
+
+    private record NetworkLoadKey(UUID networkUuid, String variantId, PreloadingStrategy strategy) { }
+
+    @FunctionalInterface
+    public interface NetworkReader<T> {
+        T read(Network network, PreloadingStrategy loadedStrategy, long revision);
+    }
+
+    /**
+     * The reads of a network instance, each one locking the instance for its own duration only.
+     */
+    public interface NetworkReads {
+        <T> T read(NetworkReader<T> reader);
+    }
+
+    private record CachedNetwork(Network network, String variantId, PreloadingStrategy strategy, long revision, ReentrantLock lock) implements NetworkReads {
+        @Override
+        public <T> T read(NetworkReader<T> reader) {
+            lock.lock();
+            try {
+                // readers must not switch the working variant of a shared instance, restore it if one did
+                String workingVariantId = network.getVariantManager().getWorkingVariantId();
+                if (!variantId.equals(workingVariantId)) {
+                    log.warn("Working variant of a network bound to variant {} was switched to {}, restoring it", variantId, workingVariantId);
+                    network.getVariantManager().setWorkingVariant(variantId);
+                }
+                return reader.read(network, strategy, revision);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import org.springframework.lang.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Published when a network variant has changed in the network store, or all the variants of the network if
+ * {@code variantId} is {@code null}: the network is then evicted (see {@link NetworkMapService#evictNetwork}).
+ */
+public record NetworkChangedEvent(UUID networkUuid, @Nullable String variantId) {
+}
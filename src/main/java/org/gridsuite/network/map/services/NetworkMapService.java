@@ -6,24 +6,33 @@
  */
 package org.gridsuite.network.map.services;
 
-import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.HvdcConverterStation.HvdcType;
-import com.powsybl.network.store.client.NetworkStoreService;
 import com.powsybl.network.store.client.PreloadingStrategy;
 import lombok.AllArgsConstructor;
 import org.gridsuite.network.map.dto.AllElementsInfos;
 import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementLookup;
 import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.ElementsDeltaInfos;
+import org.gridsuite.network.map.dto.ElementsFilter;
+import org.gridsuite.network.map.dto.ElementsIdsQuery;
+import org.gridsuite.network.map.dto.EquipmentLocationInfos;
 import org.gridsuite.network.map.dto.InfoTypeParameters;
+import org.gridsuite.network.map.dto.NetworkWarmupInfos;
+import org.gridsuite.network.map.dto.common.SubstationReferenceData;
+import org.gridsuite.network.map.dto.common.VoltageLevelReferenceData;
 import org.gridsuite.network.map.dto.definition.hvdc.HvdcShuntCompensatorsInfos;
 import org.gridsuite.network.map.dto.definition.topology.BusBarSectionsInfos;
 import org.gridsuite.network.map.dto.definition.topology.FeederBayInfos;
 import org.gridsuite.network.map.dto.definition.topology.SwitchInfos;
 import org.gridsuite.network.map.dto.mapper.ElementInfosMapper;
 import org.gridsuite.network.map.dto.mapper.HvdcInfosMapper;
+import org.gridsuite.network.map.dto.utils.MappingContext;
+import org.gridsuite.network.map.dto.utils.MappingContext.SubstationAttributes;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
 import org.gridsuite.network.map.dto.utils.TopologyUtils;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -31,153 +40,306 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static org.gridsuite.network.map.dto.InfoTypeParameters.QUERY_PARAM_INFO_TYPE;
 import static org.gridsuite.network.map.dto.InfoTypeParameters.QUERY_PARAM_LOAD_NETWORK_COMPONENTS;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  * @author Franck Lecuyer <franck.lecuyer at rte-france.com>
  */
-@ComponentScan(basePackageClasses = {NetworkStoreService.class})
 @Service
 @AllArgsConstructor
 public class NetworkMapService {
-    private final NetworkStoreService networkStoreService;
+    private static final List<ElementType> ALL_ELEMENTS_TYPES = List.of(ElementType.SUBSTATION, ElementType.VOLTAGE_LEVEL, ElementType.HVDC_LINE,
+        ElementType.LINE, ElementType.LOAD, ElementType.GENERATOR, ElementType.TWO_WINDINGS_TRANSFORMER, ElementType.THREE_WINDINGS_TRANSFORMER,
+        ElementType.BATTERY, ElementType.BOUNDARY_LINE, ElementType.TIE_LINE, ElementType.LCC_CONVERTER_STATION, ElementType.SHUNT_COMPENSATOR,
+        ElementType.STATIC_VAR_COMPENSATOR, ElementType.VSC_CONVERTER_STATION, ElementType.BUS, ElementType.BUSBAR_SECTION, ElementType.BRANCH);
 
-    private Network getNetwork(UUID networkUuid, PreloadingStrategy strategy, String variantId) {
-        try {
-            Network network = networkStoreService.getNetwork(networkUuid, strategy);
-            if (variantId != null) {
-                network.getVariantManager().setWorkingVariant(variantId);
-            }
-            return network;
-        } catch (PowsyblException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        }
+    private static final int STREAMING_BATCH_SIZE = 1000;
+
+    private final NetworkCache networkCache;
+
+    private final PreloadingStrategyPlanner preloadingStrategyPlanner;
+
+    private final ParallelMapper parallelMapper;
+
+    private final ElementFragmentCache elementFragmentCache;
+
+    private final ResponseCache responseCache;
+
+    private final ElementsSnapshots elementsSnapshots;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final EquipmentLocator equipmentLocator;
+
+    private final NetworkSecondaryIndexes secondaryIndexes;
+
+    private PreloadingStrategy getPreloadingStrategy(UUID networkUuid, ElementType elementType, ElementInfos.InfoType infoType, @NonNull List<String> substationsIds) {
+        return preloadingStrategyPlanner.plan(networkUuid, List.of(elementType), infoType, substationsIds, false);
     }
 
-    private static PreloadingStrategy getPreloadingStrategy(@NonNull List<String> substationsIds) {
-        return substationsIds.isEmpty() ? PreloadingStrategy.COLLECTION : PreloadingStrategy.NONE;
+    /**
+     * Apply {@code reader} on the network, within a {@link MappingContext} shared by all the elements mapped by the reader.
+     */
+    private <T> T read(UUID networkUuid, PreloadingStrategy strategy, String variantId, Function<Network, T> reader) {
+        return readRevision(networkUuid, strategy, variantId, (network, revision) -> reader.apply(network));
+    }
+
+    /**
+     * Same as {@link #read(UUID, PreloadingStrategy, String, Function)}, the reader also receiving the revision of the
+     * network instance (see {@link NetworkCache#readWithRevision}).
+     */
+    private <T> T readRevision(UUID networkUuid, PreloadingStrategy strategy, String variantId, BiFunction<Network, Long, T> reader) {
+        return networkCache.readWithRevision(networkUuid, strategy, variantId, (network, loadedStrategy, revision) ->
+                MappingContext.run(() -> reader.apply(network, revision)));
+    }
+
+    /**
+     * Apply {@code reader} on the network, and learn the size of the network on the way when its collections are preloaded.
+     */
+    private <T> T readAndLearnSize(UUID networkUuid, PreloadingStrategy strategy, String variantId, Function<Network, T> reader) {
+        return readRevisionAndLearnSize(networkUuid, strategy, variantId, (network, revision) -> reader.apply(network));
+    }
+
+    private <T> T readRevisionAndLearnSize(UUID networkUuid, PreloadingStrategy strategy, String variantId, BiFunction<Network, Long, T> reader) {
+        return readRevision(networkUuid, strategy, variantId, (network, revision) -> {
+            if (strategy != PreloadingStrategy.NONE) {
+                preloadingStrategyPlanner.learnNetworkSize(networkUuid, network);
+            }
+            return reader.apply(network, revision);
+        });
     }
 
     private List<String> getSubstationsIds(UUID networkUuid, String variantId, List<Double> nominalVoltages) {
-        Network network = getNetwork(networkUuid, PreloadingStrategy.COLLECTION, variantId);
-        return network.getSubstationStream()
-                .filter(substation -> nominalVoltages == null ||
-                        substation.getVoltageLevelStream().anyMatch(voltageLevel -> nominalVoltages.contains(voltageLevel.getNominalV())))
-                .map(Substation::getId).toList();
+        return readAndLearnSize(networkUuid, PreloadingStrategy.COLLECTION, variantId, network ->
+                getSubstationStream(network, List.of(), nominalVoltages).map(Substation::getId).toList());
     }
 
-    public AllElementsInfos getAllElementsInfos(UUID networkUuid, String variantId, @NonNull List<String> substationsId, Map<String, Map<String, String>> additionalParametersByType) {
+    /**
+     * Get the infos of the elements of the given types, the sections of the other types being {@code null}.
+     *
+     * @param elementTypes the types of the elements, all the types if empty
+     * @param additionalParametersByType the optional parameters of each type, including its info type (TAB by default)
+     * @param normalized whether the voltage levels and substations attributes are returned once in lookup tables instead
+     *                   of being copied in the infos of each element
+     */
+    public AllElementsInfos getAllElementsInfos(UUID networkUuid, String variantId, @NonNull List<String> substationsId, @NonNull Collection<ElementType> elementTypes,
+                                                Map<String, Map<String, String>> additionalParametersByType, boolean normalized) {
+        List<ElementType> selectedTypes = getSelectedElementsTypes(elementTypes);
+        PreloadingStrategy preloadingStrategy = getAllElementsPreloadingStrategy(networkUuid, substationsId, selectedTypes, additionalParametersByType);
+        return readAndLearnSize(networkUuid, preloadingStrategy, variantId, network -> {
+            // the sections are computed one after the other on the request thread, the network not being thread-safe
+            Map<ElementType, List<ElementInfos>> sectionsByType = new EnumMap<>(ElementType.class);
+            selectedTypes.forEach(elementType -> sectionsByType.put(elementType,
+                    getElementsInfosOfType(network, substationsId, elementType, getInfoTypeParameters(additionalParametersByType, elementType), null)));
+            return AllElementsInfos.builder()
+                    .substations(sectionsByType.get(ElementType.SUBSTATION))
+                    .voltageLevels(sectionsByType.get(ElementType.VOLTAGE_LEVEL))
+                    .hvdcLines(sectionsByType.get(ElementType.HVDC_LINE))
+                    .lines(sectionsByType.get(ElementType.LINE))
+                    .loads(sectionsByType.get(ElementType.LOAD))
+                    .generators(sectionsByType.get(ElementType.GENERATOR))
+                    .twoWindingsTransformers(sectionsByType.get(ElementType.TWO_WINDINGS_TRANSFORMER))
+                    .threeWindingsTransformers(sectionsByType.get(ElementType.THREE_WINDINGS_TRANSFORMER))
+                    .batteries(sectionsByType.get(ElementType.BATTERY))
+                    .boundaryLines(sectionsByType.get(ElementType.BOUNDARY_LINE))
+                    .tieLines(sectionsByType.get(ElementType.TIE_LINE))
+                    .lccConverterStations(sectionsByType.get(ElementType.LCC_CONVERTER_STATION))
+                    .shuntCompensators(sectionsByType.get(ElementType.SHUNT_COMPENSATOR))
+                    .staticVarCompensators(sectionsByType.get(ElementType.STATIC_VAR_COMPENSATOR))
+                    .vscConverterStations(sectionsByType.get(ElementType.VSC_CONVERTER_STATION))
+                    .buses(sectionsByType.get(ElementType.BUS))
+                    .busbarSections(sectionsByType.get(ElementType.BUSBAR_SECTION))
+                    .branches(sectionsByType.get(ElementType.BRANCH))
+                    .voltageLevelsById(normalized ? getVoltageLevelsReferences(network, substationsId) : null)
+                    .substationsById(normalized ? getSubstationsReferences() : null)
+                    .build();
+        });
+    }
+
+    /**
+     * The voltage levels of the substations, and the ones referenced by the elements mapped, which can be out of these
+     * substations (the other side of a line for example).
+     */
+    private Map<String, VoltageLevelReferenceData> getVoltageLevelsReferences(Network network, @NonNull List<String> substationsId) {
+        getVoltageLevelStream(network, substationsId, null).forEach(MappingContext::voltageLevel);
+        return MappingContext.getVoltageLevels().stream().collect(Collectors.toMap(VoltageLevelAttributes::id,
+                voltageLevel -> VoltageLevelReferenceData.builder()
+                        .name(voltageLevel.name())
+                        .nominalV(voltageLevel.nominalV())
+                        .substationId(voltageLevel.substationId())
+                        .properties(voltageLevel.properties())
+                        .build(),
+                (voltageLevel1, voltageLevel2) -> voltageLevel1, TreeMap::new));
+    }
+
+    private static Map<String, SubstationReferenceData> getSubstationsReferences() {
+        return MappingContext.getSubstations().stream().collect(Collectors.toMap(SubstationAttributes::id,
+                substation -> SubstationReferenceData.builder()
+                        .name(substation.name())
+                        .country(substation.country())
+                        .properties(substation.properties())
+                        .build(),
+                (substation1, substation2) -> substation1, TreeMap::new));
+    }
+
+    /**
+     * Same as {@link #getAllElementsInfos(UUID, String, List, Collection, Map, boolean)} not normalized, the infos of each element being given to
+     * {@code sectionConsumer} as soon as its batch is mapped instead of being collected. The sections are given one at a time.
+     */
+    public void streamAllElementsInfos(UUID networkUuid, String variantId, @NonNull List<String> substationsId, @NonNull Collection<ElementType> elementTypes,
+                                       Map<String, Map<String, String>> additionalParametersByType, @NonNull BiConsumer<ElementType, Stream<ElementInfos>> sectionConsumer) {
+        List<ElementType> selectedTypes = getSelectedElementsTypes(elementTypes);
+        PreloadingStrategy preloadingStrategy = getAllElementsPreloadingStrategy(networkUuid, substationsId, selectedTypes, additionalParametersByType);
+        readInStepsAndLearnSize(networkUuid, preloadingStrategy, variantId, reads -> {
+            selectedTypes.forEach(elementType -> {
+                List<Identifiable<?>> identifiables = reads.read((network, loadedStrategy, revision) ->
+                        new ArrayList<>(getIdentifiableStream(network, substationsId, elementType, null).toList()));
+                sectionConsumer.accept(elementType, mapInBatches(reads, identifiables, elementType, getInfoTypeParameters(additionalParametersByType, elementType)));
+            });
+            return null;
+        });
+    }
+
+    /**
+     * Same as {@link #getAllElementsInfos(UUID, String, List, Collection, Map, boolean)} not normalized, the infos of each
+     * element being returned serialized by {@code serializer}, from the fragment cache when they are cached.
+     */
+    public Map<ElementType, List<byte[]>> getAllElementsFragments(UUID networkUuid, String variantId, @NonNull List<String> substationsId, @NonNull Collection<ElementType> elementTypes,
+                                                                  Map<String, Map<String, String>> additionalParametersByType, @NonNull Function<ElementInfos, byte[]> serializer) {
+        List<ElementType> selectedTypes = getSelectedElementsTypes(elementTypes);
+        PreloadingStrategy preloadingStrategy = getAllElementsPreloadingStrategy(networkUuid, substationsId, selectedTypes, additionalParametersByType);
+        return readRevisionAndLearnSize(networkUuid, preloadingStrategy, variantId, (network, revision) -> {
+            // the sections are computed one after the other on the request thread, as in getAllElementsInfos
+            Map<ElementType, List<byte[]>> sectionsByType = new LinkedHashMap<>();
+            selectedTypes.forEach(elementType -> sectionsByType.put(elementType, getElementsFragmentsOfType(network, revision, substationsId, elementType,
+                    getInfoTypeParameters(additionalParametersByType, elementType), null, serializer)));
+            return sectionsByType;
+        });
+    }
+
+    private static List<ElementType> getSelectedElementsTypes(@NonNull Collection<ElementType> elementTypes) {
+        if (!ALL_ELEMENTS_TYPES.containsAll(elementTypes)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Element types not supported: " + elementTypes.stream().filter(elementType -> !ALL_ELEMENTS_TYPES.contains(elementType)).toList());
+        }
+        return ALL_ELEMENTS_TYPES.stream().filter(elementType -> elementTypes.isEmpty() || elementTypes.contains(elementType)).toList();
+    }
+
+    private PreloadingStrategy getAllElementsPreloadingStrategy(UUID networkUuid, @NonNull List<String> substationsId, List<ElementType> selectedTypes,
+                                                                Map<String, Map<String, String>> additionalParametersByType) {
         // With network components we have to traverse almost all the network to recompute so we can switch to
         // ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW directly
-        boolean shouldLoadNetworkComponents = Optional.ofNullable(additionalParametersByType.get(ElementType.BUS.toString()))
+        boolean shouldLoadNetworkComponents = selectedTypes.contains(ElementType.BUS) && Optional.ofNullable(additionalParametersByType.get(ElementType.BUS.toString()))
             .map(map -> map.get(QUERY_PARAM_LOAD_NETWORK_COMPONENTS))
             .map(Boolean::valueOf)
             .orElse(false);
-        PreloadingStrategy preloadingStrategy = shouldLoadNetworkComponents || substationsId.size() >= 5 ?
-            PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW :
-            PreloadingStrategy.NONE;
-        Network network = getNetwork(networkUuid, preloadingStrategy, variantId);
-        return AllElementsInfos.builder()
-                .substations(getSubstationsInfos(network, substationsId, getInfoTypeParameters(additionalParametersByType, ElementType.SUBSTATION), null))
-                .voltageLevels(getVoltageLevelsInfos(network, substationsId, getInfoTypeParameters(additionalParametersByType, ElementType.VOLTAGE_LEVEL), null))
-                .hvdcLines(getHvdcLinesInfos(network, substationsId, getInfoTypeParameters(additionalParametersByType, ElementType.HVDC_LINE), null))
-                .lines(getElementsInfos(network, substationsId, ElementType.LINE, getInfoTypeParameters(additionalParametersByType, ElementType.LINE), null))
-                .loads(getElementsInfos(network, substationsId, ElementType.LOAD, getInfoTypeParameters(additionalParametersByType, ElementType.LOAD), null))
-                .generators(getElementsInfos(network, substationsId, ElementType.GENERATOR, getInfoTypeParameters(additionalParametersByType, ElementType.GENERATOR), null))
-                .twoWindingsTransformers(getElementsInfos(network, substationsId, ElementType.TWO_WINDINGS_TRANSFORMER, getInfoTypeParameters(additionalParametersByType,
-                        ElementType.TWO_WINDINGS_TRANSFORMER), null))
-                .threeWindingsTransformers(getElementsInfos(network, substationsId, ElementType.THREE_WINDINGS_TRANSFORMER, getInfoTypeParameters(additionalParametersByType,
-                        ElementType.THREE_WINDINGS_TRANSFORMER), null))
-                .batteries(getElementsInfos(network, substationsId, ElementType.BATTERY, getInfoTypeParameters(additionalParametersByType, ElementType.BATTERY), null))
-                .boundaryLines(getElementsInfos(network, substationsId, ElementType.BOUNDARY_LINE, getInfoTypeParameters(additionalParametersByType, ElementType.BOUNDARY_LINE), null))
-                .tieLines(getTieLinesInfos(network, substationsId, getInfoTypeParameters(additionalParametersByType, ElementType.TIE_LINE), null))
-                .lccConverterStations(getElementsInfos(network, substationsId, ElementType.LCC_CONVERTER_STATION, getInfoTypeParameters(additionalParametersByType, ElementType.LCC_CONVERTER_STATION),
-                        null))
-                .shuntCompensators(getElementsInfos(network, substationsId, ElementType.SHUNT_COMPENSATOR, getInfoTypeParameters(additionalParametersByType, ElementType.SHUNT_COMPENSATOR), null))
-                .staticVarCompensators(getElementsInfos(network, substationsId, ElementType.STATIC_VAR_COMPENSATOR, getInfoTypeParameters(additionalParametersByType,
-                        ElementType.STATIC_VAR_COMPENSATOR), null))
-                .vscConverterStations(getElementsInfos(network, substationsId, ElementType.VSC_CONVERTER_STATION, getInfoTypeParameters(additionalParametersByType, ElementType.VSC_CONVERTER_STATION),
-                        null))
-                .buses(getBusesInfos(network, substationsId, getInfoTypeParameters(additionalParametersByType, ElementType.BUS)))
-                .busbarSections(getElementsInfos(network, substationsId, ElementType.BUSBAR_SECTION, getInfoTypeParameters(additionalParametersByType, ElementType.BUSBAR_SECTION), null))
-                .branches(getElementsInfos(network, substationsId, ElementType.BRANCH, getInfoTypeParameters(additionalParametersByType, ElementType.BRANCH), null))
-                .build();
+        if (substationsId.isEmpty() && !shouldLoadNetworkComponents) {
+            // the whole network is read without preloading, as before the element types could be selected
+            return PreloadingStrategy.NONE;
+        }
+        Set<ElementInfos.InfoType> infoTypes = selectedTypes.stream()
+                .map(elementType -> getInfoType(additionalParametersByType.get(String.valueOf(elementType))))
+                .collect(Collectors.toSet());
+        return preloadingStrategyPlanner.plan(networkUuid, selectedTypes,
+            infoTypes.size() == 1 ? infoTypes.iterator().next() : ElementInfos.InfoType.TAB, substationsId, shouldLoadNetworkComponents);
     }
 
     private static InfoTypeParameters getInfoTypeParameters(Map<String, Map<String, String>> additionalParametersByType, ElementType elementType) {
-        return new InfoTypeParameters(ElementInfos.InfoType.TAB, additionalParametersByType.get(String.valueOf(elementType)));
+        Map<String, String> additionalParameters = additionalParametersByType.get(String.valueOf(elementType));
+        return new InfoTypeParameters(getInfoType(additionalParameters), additionalParameters);
+    }
+
+    private static ElementInfos.InfoType getInfoType(@Nullable Map<String, String> additionalParameters) {
+        String infoType = additionalParameters != null ? additionalParameters.get(QUERY_PARAM_INFO_TYPE) : null;
+        if (infoType == null) {
+            return ElementInfos.InfoType.TAB;
+        }
+        try {
+            return ElementInfos.InfoType.valueOf(infoType);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown info type: " + infoType);
+        }
     }
 
     private List<String> getVoltageLevelsIds(UUID networkUuid, String variantId, @NonNull List<String> substationsIds, List<Double> nominalVoltages) {
-        Network network = getNetwork(networkUuid, getPreloadingStrategy(substationsIds), variantId);
-        return getVoltageLevelStream(network, substationsIds, nominalVoltages).map(VoltageLevel::getId).toList();
+        return readAndLearnSize(networkUuid, getPreloadingStrategy(networkUuid, ElementType.VOLTAGE_LEVEL, ElementInfos.InfoType.LIST, substationsIds), variantId, network ->
+                getVoltageLevelStream(network, substationsIds, nominalVoltages).map(VoltageLevel::getId).toList());
     }
 
     public List<ElementInfos> getVoltageLevelEquipments(UUID networkUuid, String voltageLevelId, String variantId) {
-        Network network = getNetwork(networkUuid, PreloadingStrategy.NONE, variantId);
-        return network.getVoltageLevel(voltageLevelId).getConnectableStream()
+        return read(networkUuid, PreloadingStrategy.NONE, variantId, network -> network.getVoltageLevel(voltageLevelId).getConnectableStream()
                 .map(ElementInfosMapper::toInfosWithType)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     public List<ElementInfos> getVoltageLevelBusesOrBusbarSections(UUID networkUuid, String voltageLevelId, String variantId) {
-        Network network = getNetwork(networkUuid, PreloadingStrategy.NONE, variantId);
-        TopologyKind topologyKind = network.getVoltageLevel(voltageLevelId).getTopologyKind();
-        return switch (topologyKind) {
-            case NODE_BREAKER -> network.getVoltageLevel(voltageLevelId).getNodeBreakerView().getBusbarSectionStream()
-                .map(ElementInfosMapper::toListInfos).toList();
-            case BUS_BREAKER -> network.getVoltageLevel(voltageLevelId).getBusBreakerView().getBusStream()
-                .map(ElementInfosMapper::toListInfos).collect(Collectors.toList());
-        };
+        return read(networkUuid, PreloadingStrategy.NONE, variantId, network -> {
+            TopologyKind topologyKind = network.getVoltageLevel(voltageLevelId).getTopologyKind();
+            return switch (topologyKind) {
+                case NODE_BREAKER -> network.getVoltageLevel(voltageLevelId).getNodeBreakerView().getBusbarSectionStream()
+                    .map(ElementInfosMapper::toListInfos).toList();
+                case BUS_BREAKER -> network.getVoltageLevel(voltageLevelId).getBusBreakerView().getBusStream()
+                    .map(ElementInfosMapper::toListInfos).collect(Collectors.toList());
+            };
+        });
     }
 
     public BusBarSectionsInfos getBusBarSectionsInfos(UUID networkUuid, String voltageLevelId, String variantId) {
-        Network network = getNetwork(networkUuid, PreloadingStrategy.NONE, variantId);
-        VoltageLevel voltageLevel = network.getVoltageLevel(voltageLevelId);
-        return TopologyUtils.getBusBarSectionsInfos(voltageLevel);
+        return read(networkUuid, PreloadingStrategy.NONE, variantId, network ->
+                TopologyUtils.getBusBarSectionsInfos(network.getVoltageLevel(voltageLevelId)));
     }
 
     public Map<String, List<FeederBayInfos>> getFeederBaysInfos(UUID networkUuid, String voltageLevelId, String variantId) {
-        Network network = getNetwork(networkUuid, PreloadingStrategy.NONE, variantId);
-        VoltageLevel voltageLevel = network.getVoltageLevel(voltageLevelId);
-        return TopologyUtils.getFeederBaysInfos(voltageLevel);
+        return read(networkUuid, PreloadingStrategy.NONE, variantId, network ->
+                TopologyUtils.getFeederBaysInfos(network.getVoltageLevel(voltageLevelId)));
     }
 
     public List<SwitchInfos> getSwitchInfos(UUID networkUuid, String voltageLevelId, String variantId) {
-        Network network = getNetwork(networkUuid, PreloadingStrategy.NONE, variantId);
-        VoltageLevel voltageLevel = network.getVoltageLevel(voltageLevelId);
-        return TopologyUtils.getSwitchesInfos(voltageLevel.getId(), network);
+        return read(networkUuid, PreloadingStrategy.NONE, variantId, network ->
+                TopologyUtils.getSwitchesInfos(network.getVoltageLevel(voltageLevelId).getId(), network));
     }
 
     public String getVoltageLevelSubstationID(UUID networkUuid, String voltageLevelId, String variantId) {
-        Network network = getNetwork(networkUuid, PreloadingStrategy.NONE, variantId);
-        return network.getVoltageLevel(voltageLevelId).getSubstation().map(Substation::getId).orElse(null);
+        EquipmentLocationInfos location = equipmentLocator.locateIfIndexed(networkUuid, variantId, voltageLevelId);
+        if (location != null && location.getType() == IdentifiableType.VOLTAGE_LEVEL) {
+            return location.getSubstationIds().isEmpty() ? null : location.getSubstationIds().getFirst();
+        }
+        return read(networkUuid, PreloadingStrategy.NONE, variantId, network ->
+                network.getVoltageLevel(voltageLevelId).getSubstation().map(Substation::getId).orElse(null));
     }
 
     public List<String> getVoltageLevelBusbarSectionsIds(UUID networkUuid, String voltageLevelId, String variantId) {
-        Network network = getNetwork(networkUuid, PreloadingStrategy.NONE, variantId);
-        return network.getVoltageLevel(voltageLevelId).getNodeBreakerView().getBusbarSectionStream()
-                .map(BusbarSection::getId).collect(Collectors.toList());
+        return read(networkUuid, PreloadingStrategy.NONE, variantId, network -> network.getVoltageLevel(voltageLevelId).getNodeBreakerView().getBusbarSectionStream()
+                .map(BusbarSection::getId).collect(Collectors.toList()));
     }
 
     private List<String> getHvdcLinesIdsByHvdcType(UUID networkUuid, String variantId, @NonNull List<String> substationsIds, List<Double> nominalVoltages, HvdcType type) {
-        Network network = getNetwork(networkUuid, getPreloadingStrategy(substationsIds), variantId);
-        Stream<HvdcLine> hvdcLineStream = (substationsIds.isEmpty() && nominalVoltages == null)
-                ? network.getHvdcLineStream()
-                : getVoltageLevelStream(network, substationsIds, nominalVoltages)
-                .flatMap(voltageLevel -> voltageLevel.getConnectableStream(HvdcConverterStation.class))
-                .map(HvdcConverterStation::getHvdcLine)
-                .filter(Objects::nonNull)
-                .distinct();
-        if (type != null) {
-            hvdcLineStream = hvdcLineStream.filter(hvdcLine -> hvdcLine.getConverterStation1().getHvdcType() == type);
-        }
-        return hvdcLineStream.map(HvdcLine::getId).toList();
+        PreloadingStrategy preloadingStrategy = getPreloadingStrategy(networkUuid, getElementTypeByHvdcType(type), ElementInfos.InfoType.LIST, substationsIds);
+        return readAndLearnSize(networkUuid, preloadingStrategy, variantId, network -> {
+            Stream<HvdcLine> hvdcLineStream = (substationsIds.isEmpty() && nominalVoltages == null)
+                    ? network.getHvdcLineStream()
+                    : getVoltageLevelStream(network, substationsIds, nominalVoltages)
+                    .flatMap(voltageLevel -> voltageLevel.getConnectableStream(HvdcConverterStation.class))
+                    .map(HvdcConverterStation::getHvdcLine)
+                    .filter(Objects::nonNull)
+                    .distinct();
+            if (type != null) {
+                hvdcLineStream = hvdcLineStream.filter(hvdcLine -> hvdcLine.getConverterStation1().getHvdcType() == type);
+            }
+            return hvdcLineStream.map(HvdcLine::getId).toList();
+        });
     }
 
     private List<String> getHvdcLinesIds(UUID networkUuid, String variantId, @NonNull List<String> substationsIds, List<Double> nominalVoltages) {
@@ -193,44 +355,39 @@ public class NetworkMapService {
     }
 
     private List<String> getTieLinesIds(UUID networkUuid, String variantId, @NonNull List<String> substationsIds, List<Double> nominalVoltages) {
-        Network network = getNetwork(networkUuid, getPreloadingStrategy(substationsIds), variantId);
-        if (substationsIds.isEmpty() && nominalVoltages == null) {
-            return network.getTieLineStream()
-                    .map(TieLine::getId).toList();
-        } else {
-            return getVoltageLevelStream(network, substationsIds, nominalVoltages)
-                    .flatMap(voltageLevel -> voltageLevel.getConnectableStream(BoundaryLine.class))
-                    .map(BoundaryLine::getTieLine)
-                    .flatMap(Optional::stream)
-                    .map(TieLine::getId)
-                    .distinct()
-                    .toList();
-        }
+        return readAndLearnSize(networkUuid, getPreloadingStrategy(networkUuid, ElementType.TIE_LINE, ElementInfos.InfoType.LIST, substationsIds), variantId, network -> {
+            if (substationsIds.isEmpty() && nominalVoltages == null) {
+                return network.getTieLineStream()
+                        .map(TieLine::getId).toList();
+            } else {
+                return getVoltageLevelStream(network, substationsIds, nominalVoltages)
+                        .flatMap(voltageLevel -> voltageLevel.getConnectableStream(BoundaryLine.class))
+                        .map(BoundaryLine::getTieLine)
+                        .flatMap(Optional::stream)
+                        .map(TieLine::getId)
+                        .distinct()
+                        .toList();
+            }
+        });
     }
 
-    private static List<ElementInfos> getSubstationsInfos(Network network, @NonNull List<String> substationsId, InfoTypeParameters infoTypeParameters, List<Double> nominalVoltages) {
+    private Stream<Substation> getSubstationStream(Network network, @NonNull List<String> substationsId, List<Double> nominalVoltages) {
+        if (nominalVoltages != null && secondaryIndexes.isEnabled()) {
+            List<String> substationsIds = secondaryIndexes.getSubstationsIds(network, substationsId, nominalVoltages);
+            if (substationsIds != null) {
+                return substationsIds.stream().map(network::getSubstation);
+            }
+        }
         Stream<Substation> substations = substationsId.isEmpty() ? network.getSubstationStream() : substationsId.stream().map(network::getSubstation);
         return substations
                 .filter(substation -> nominalVoltages == null ||
-                        substation.getVoltageLevelStream().anyMatch(voltageLevel -> nominalVoltages.contains(voltageLevel.getNominalV())))
-                .map(c -> ElementType.SUBSTATION.getInfosGetter().apply(c, infoTypeParameters))
-                .toList();
+                        substation.getVoltageLevelStream().anyMatch(voltageLevel -> nominalVoltages.contains(voltageLevel.getNominalV())));
     }
 
-    private static List<ElementInfos> getVoltageLevelsInfos(Network network, @NonNull List<String> substationsId, InfoTypeParameters infoTypeParameters, List<Double> nominalVoltages) {
-        return getVoltageLevelStream(network, substationsId, nominalVoltages)
-                .map(c -> ElementType.VOLTAGE_LEVEL.getInfosGetter().apply(c, infoTypeParameters))
-                .toList();
-    }
-
-    private static List<ElementInfos> getHvdcLinesInfosByHvdcType(Network network, @NonNull List<String> substationsId, InfoTypeParameters infoTypeParameters, List<Double> nominalVoltages,
-            HvdcType type) {
+    private Stream<HvdcLine> getHvdcLineStream(Network network, @NonNull List<String> substationsId, List<Double> nominalVoltages, HvdcType type) {
         Stream<HvdcLine> hvdcLineStream = substationsId.isEmpty()
                 ? network.getHvdcLineStream()
-                : substationsId.stream()
-                .map(network::getSubstation)
-                .flatMap(Substation::getVoltageLevelStream)
-                .filter(voltageLevel -> nominalVoltages == null || nominalVoltages.contains(voltageLevel.getNominalV()))
+                : getVoltageLevelStream(network, substationsId, nominalVoltages)
                 .flatMap(vl -> vl.getConnectableStream(HvdcConverterStation.class))
                 .map(HvdcConverterStation::getHvdcLine)
                 .filter(Objects::nonNull)
@@ -238,7 +395,7 @@ public class NetworkMapService {
         if (type != null) {
             hvdcLineStream = hvdcLineStream.filter(hvdcLine -> hvdcLine.getConverterStation1().getHvdcType() == type);
         }
-        return hvdcLineStream.map(c -> getElementTypeByHvdcType(type).getInfosGetter().apply(c, infoTypeParameters)).toList();
+        return hvdcLineStream;
     }
 
     @SuppressWarnings({
@@ -254,98 +411,229 @@ public class NetworkMapService {
         }
     }
 
-    private static List<ElementInfos> getHvdcLinesInfos(Network network, @NonNull List<String> substationsId, InfoTypeParameters infoTypeParameters, List<Double> nominalVoltages) {
-        return getHvdcLinesInfosByHvdcType(network, substationsId, infoTypeParameters, nominalVoltages, null);
-    }
-
-    private static List<ElementInfos> getHvdcLinesLccInfos(Network network, @NonNull List<String> substationsId, InfoTypeParameters infoTypeParameters, List<Double> nominalVoltages) {
-        return getHvdcLinesInfosByHvdcType(network, substationsId, infoTypeParameters, nominalVoltages, HvdcType.LCC);
-    }
-
-    private static List<ElementInfos> getHvdcLinesVscInfos(Network network, @NonNull List<String> substationsId, InfoTypeParameters infoTypeParameters, List<Double> nominalVoltages) {
-        return getHvdcLinesInfosByHvdcType(network, substationsId, infoTypeParameters, nominalVoltages, HvdcType.VSC);
-    }
-
-    private List<ElementInfos> getTieLinesInfos(Network network, @NonNull List<String> substationsId, InfoTypeParameters infoTypeParameters, List<Double> nominalVoltages) {
-        Stream<TieLine> tieLines = substationsId.isEmpty() ? network.getTieLineStream() :
-                substationsId.stream()
-                        .map(network::getSubstation)
-                        .flatMap(Substation::getVoltageLevelStream)
-                        .filter(voltageLevel -> nominalVoltages == null || nominalVoltages.contains(voltageLevel.getNominalV()))
+    private Stream<TieLine> getTieLineStream(Network network, @NonNull List<String> substationsId, List<Double> nominalVoltages) {
+        return substationsId.isEmpty() ? network.getTieLineStream() :
+                getVoltageLevelStream(network, substationsId, nominalVoltages)
                         .flatMap(vl -> vl.getConnectableStream(BoundaryLine.class))
                         .map(BoundaryLine::getTieLine)
                         .flatMap(Optional::stream)
                         .distinct();
-        return tieLines
-                .map(c -> ElementType.TIE_LINE.getInfosGetter().apply(c, infoTypeParameters))
-                .distinct()
-                .toList();
     }
 
-    private List<ElementInfos> getBusesInfos(Network network, @NonNull List<String> substationsId, InfoTypeParameters infoTypeParameters) {
-        Stream<Bus> buses = substationsId.isEmpty() ? network.getBusView().getBusStream() :
+    private static Stream<Bus> getBusStream(Network network, @NonNull List<String> substationsId) {
+        return substationsId.isEmpty() ? network.getBusView().getBusStream() :
             substationsId
                 .stream()
                 .flatMap(id -> network.getSubstation(id).getVoltageLevelStream())
                 .flatMap(vl -> StreamSupport.stream(vl.getBusView().getBuses().spliterator(), false));
-
-        return buses
-                .map(c -> ElementType.BUS.getInfosGetter().apply(c, infoTypeParameters))
-                .distinct()
-                .toList();
     }
 
-    private static List<ElementInfos> getElementsInfos(Network network, @NonNull List<String> substationsIds, ElementType elementType, InfoTypeParameters infoTypeParameters,
-            List<Double> nominalVoltages) {
+    private Stream<? extends Connectable<?>> getConnectableStream(Network network, @NonNull List<String> substationsIds, ElementType elementType,
+                                                                 List<Double> nominalVoltages) {
         if (!elementType.isConnectable()) { // early break if not supported
             throw new IllegalStateException("Unexpected non-connectable element type: " + elementType);
         }
-        final Stream<? extends Connectable<?>> connectables = substationsIds.isEmpty() ?
+        return substationsIds.isEmpty() ?
                 elementType.getConnectableStream(network) :
-                substationsIds.stream()
-                        .flatMap(substationId -> network.getSubstation(substationId).getVoltageLevelStream())
-                        .filter(voltageLevel -> (elementType != ElementType.BUSBAR_SECTION || voltageLevel.getTopologyKind() != TopologyKind.BUS_BREAKER)
-                            && (nominalVoltages == null || nominalVoltages.contains(voltageLevel.getNominalV())))
+                getVoltageLevelStream(network, substationsIds, nominalVoltages)
+                        .filter(voltageLevel -> elementType != ElementType.BUSBAR_SECTION || voltageLevel.getTopologyKind() != TopologyKind.BUS_BREAKER)
                         .flatMap(elementType::getVoltageLevelConnectableStream)
                         .distinct();
-        return connectables
-                .map(c -> elementType.getInfosGetter().apply(c, infoTypeParameters))
-                .collect(Collectors.toList());
     }
 
-    public List<ElementInfos> getElementsInfos(UUID networkUuid, String variantId, @NonNull List<String> substationsIds, ElementType equipmentType, InfoTypeParameters infoTypeParameters,
-            List<Double> nominalVoltages) {
-        Network network = getNetwork(networkUuid, getPreloadingStrategy(substationsIds), variantId);
-        return switch (equipmentType) {
+    /**
+     * Get the elements of a type, in the given substations and with the given nominal voltages if any.
+     */
+    private Stream<? extends Identifiable<?>> getIdentifiableStream(Network network, @NonNull List<String> substationsIds, ElementType elementType,
+                                                                   List<Double> nominalVoltages) {
+        return switch (elementType) {
             // types that don't implement `Connectable<>` interface
-            case SUBSTATION -> getSubstationsInfos(network, substationsIds, infoTypeParameters, nominalVoltages);
-            case VOLTAGE_LEVEL -> getVoltageLevelsInfos(network, substationsIds, infoTypeParameters, nominalVoltages);
-            case HVDC_LINE -> getHvdcLinesInfos(network, substationsIds, infoTypeParameters, nominalVoltages);
-            case HVDC_LINE_LCC -> getHvdcLinesLccInfos(network, substationsIds, infoTypeParameters, nominalVoltages);
-            case HVDC_LINE_VSC -> getHvdcLinesVscInfos(network, substationsIds, infoTypeParameters, nominalVoltages);
-            case TIE_LINE -> getTieLinesInfos(network, substationsIds, infoTypeParameters, nominalVoltages);
-            case BUS -> getBusesInfos(network, substationsIds, infoTypeParameters);
+            case SUBSTATION -> getSubstationStream(network, substationsIds, nominalVoltages);
+            case VOLTAGE_LEVEL -> getVoltageLevelStream(network, substationsIds, nominalVoltages);
+            case HVDC_LINE -> getHvdcLineStream(network, substationsIds, nominalVoltages, null);
+            case HVDC_LINE_LCC -> getHvdcLineStream(network, substationsIds, nominalVoltages, HvdcType.LCC);
+            case HVDC_LINE_VSC -> getHvdcLineStream(network, substationsIds, nominalVoltages, HvdcType.VSC);
+            case TIE_LINE -> getTieLineStream(network, substationsIds, nominalVoltages);
+            case BUS -> getBusStream(network, substationsIds);
             // for others, it's okay
-            default -> getElementsInfos(network, substationsIds, equipmentType, infoTypeParameters, nominalVoltages);
+            default -> getConnectableStream(network, substationsIds, elementType, nominalVoltages);
         };
     }
 
-    public ElementInfos getElementInfos(UUID networkUuid, String variantId, ElementType elementType, InfoTypeParameters infoTypeParameters, String elementId) {
-        Network network = getNetwork(networkUuid, PreloadingStrategy.NONE, variantId);
-        Identifiable<?> identifiable;
-        if (elementType == ElementType.BUS) {
-            identifiable = network.getBusView().getBus(elementId);
-        } else {
-            identifiable = network.getIdentifiable(elementId);
+    public List<ElementInfos> getElementsInfos(UUID networkUuid, String variantId, @NonNull List<String> substationsIds, ElementType equipmentType, InfoTypeParameters infoTypeParameters,
+            List<Double> nominalVoltages) {
+        PreloadingStrategy preloadingStrategy = getPreloadingStrategy(networkUuid, equipmentType, infoTypeParameters.getInfoType(), substationsIds);
+        return readAndLearnSize(networkUuid, preloadingStrategy, variantId, network ->
+                getElementsInfosOfType(network, substationsIds, equipmentType, infoTypeParameters, nominalVoltages));
+    }
+
+    private List<ElementInfos> getElementsInfosOfType(Network network, @NonNull List<String> substationsIds, ElementType equipmentType,
+                                                      InfoTypeParameters infoTypeParameters, List<Double> nominalVoltages) {
+        return getIdentifiableStream(network, substationsIds, equipmentType, nominalVoltages)
+                .map(identifiable -> equipmentType.getInfosGetter().apply(identifiable, infoTypeParameters))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Same as {@link #getElementsInfos(UUID, String, List, ElementType, InfoTypeParameters, List)}, the infos of each element
+     * being returned serialized by {@code serializer}, from the fragment cache when they are cached.
+     */
+    public List<byte[]> getElementsFragments(UUID networkUuid, String variantId, @NonNull List<String> substationsIds, ElementType equipmentType, InfoTypeParameters infoTypeParameters,
+                                             List<Double> nominalVoltages, @NonNull Function<ElementInfos, byte[]> serializer) {
+        PreloadingStrategy preloadingStrategy = getPreloadingStrategy(networkUuid, equipmentType, infoTypeParameters.getInfoType(), substationsIds);
+        return readRevisionAndLearnSize(networkUuid, preloadingStrategy, variantId, (network, revision) ->
+                getElementsFragmentsOfType(network, revision, substationsIds, equipmentType, infoTypeParameters, nominalVoltages, serializer));
+    }
+
+    private List<byte[]> getElementsFragmentsOfType(Network network, long revision, @NonNull List<String> substationsIds, ElementType equipmentType,
+                                                    InfoTypeParameters infoTypeParameters, List<Double> nominalVoltages, Function<ElementInfos, byte[]> serializer) {
+        List<Identifiable<?>> identifiables = new ArrayList<>(getIdentifiableStream(network, substationsIds, equipmentType, nominalVoltages).toList());
+        return getElementsFragments(identifiables, revision, equipmentType, infoTypeParameters, serializer);
+    }
+
+    private List<byte[]> getElementsFragments(List<Identifiable<?>> identifiables, long revision, ElementType equipmentType,
+                                              InfoTypeParameters infoTypeParameters, Function<ElementInfos, byte[]> serializer) {
+        // only the elements whose fragment is not cached are mapped, on the request thread, their infos being then
+        // serialized by the parallel mapper as they no longer reference the network
+        return elementFragmentCache.getFragments(revision, equipmentType, infoTypeParameters, identifiables, Identifiable::getId, missingIdentifiables ->
+                parallelMapper.map(missingIdentifiables.stream()
+                        .map(identifiable -> equipmentType.getInfosGetter().apply(identifiable, infoTypeParameters))
+                        .toList(), serializer));
+    }
+
+    /**
+     * Get the elements of {@link #getElementsInfos(UUID, String, List, ElementType, InfoTypeParameters, List)} changed
+     * since the response of {@code token}, all of them if the token is unknown. The elements are compared by the
+     * fingerprints of their infos serialized by {@code serializer}.
+     * <p>
+     * The network is not read again when the network instance the response of the token was computed from is still
+     * cached (see {@link NetworkCache#getCachedRevision}).
+     */
+    public ElementsDeltaInfos getElementsDelta(UUID networkUuid, String variantId, @NonNull List<String> substationsIds, ElementType equipmentType,
+                                               InfoTypeParameters infoTypeParameters, List<Double> nominalVoltages, @Nullable String token,
+                                               @NonNull Function<ElementInfos, byte[]> serializer) {
+        ElementsSnapshots.SnapshotScope scope = ElementsSnapshots.getScope(networkUuid, variantId, substationsIds, equipmentType, infoTypeParameters, nominalVoltages);
+        ElementsSnapshots.Snapshot previousSnapshot = elementsSnapshots.get(token, scope);
+        OptionalLong cachedRevision = networkCache.getCachedRevision(networkUuid, variantId);
+        if (previousSnapshot != null && cachedRevision.isPresent() && previousSnapshot.revision() == cachedRevision.getAsLong()) {
+            return ElementsDeltaInfos.builder().token(token).added(List.of()).modified(List.of()).removed(List.of()).build();
         }
-        if (identifiable == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        PreloadingStrategy preloadingStrategy = getPreloadingStrategy(networkUuid, equipmentType, infoTypeParameters.getInfoType(), substationsIds);
+        return readRevisionAndLearnSize(networkUuid, preloadingStrategy, variantId, (network, revision) -> {
+            List<Identifiable<?>> identifiables = new ArrayList<>(getIdentifiableStream(network, substationsIds, equipmentType, nominalVoltages).toList());
+            List<byte[]> fragments = getElementsFragments(identifiables, revision, equipmentType, infoTypeParameters, serializer);
+            Map<String, Long> fingerprints = HashMap.newHashMap(identifiables.size());
+            List<Identifiable<?>> added = new ArrayList<>();
+            List<Identifiable<?>> modified = new ArrayList<>();
+            for (int i = 0; i < identifiables.size(); i++) {
+                Identifiable<?> identifiable = identifiables.get(i);
+                long fingerprint = getFingerprint(fragments.get(i));
+                fingerprints.put(identifiable.getId(), fingerprint);
+                Long previousFingerprint = previousSnapshot != null ? previousSnapshot.fingerprints().get(identifiable.getId()) : null;
+                if (previousFingerprint == null) {
+                    added.add(identifiable);
+                } else if (previousFingerprint != fingerprint) {
+                    modified.add(identifiable);
+                }
+            }
+            List<String> removed = previousSnapshot == null ? List.of() : previousSnapshot.fingerprints().keySet().stream()
+                    .filter(id -> !fingerprints.containsKey(id))
+                    .toList();
+            Function<Identifiable<?>, ElementInfos> mapper = identifiable -> equipmentType.getInfosGetter().apply(identifiable, infoTypeParameters);
+            return ElementsDeltaInfos.builder()
+                    .token(elementsSnapshots.replace(previousSnapshot != null ? token : null, new ElementsSnapshots.Snapshot(scope, revision, fingerprints)))
+                    .full(previousSnapshot == null)
+                    .added(added.stream().map(mapper).toList())
+                    .modified(modified.stream().map(mapper).toList())
+                    .removed(removed)
+                    .build();
+        });
+    }
+
+    /**
+     * A 64 bits FNV-1a hash of serialized infos.
+     */
+    private static long getFingerprint(byte[] fragment) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : fragment) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
         }
-        return elementType.getInfosGetter().apply(identifiable, infoTypeParameters);
+        return hash;
+    }
+
+    /**
+     * Get the response of {@link #getElementsInfos(UUID, String, List, ElementType, InfoTypeParameters, List)} from the
+     * response cache, its body being serialized by {@code bodySupplier} when it is not cached yet.
+     */
+    public ResponseCache.CachedResponse getCachedElementsResponse(UUID networkUuid, String variantId, @NonNull List<String> substationsIds, ElementType equipmentType,
+                                                                  InfoTypeParameters infoTypeParameters, List<Double> nominalVoltages, @NonNull Supplier<byte[]> bodySupplier) {
+        return responseCache.getElementsResponse(networkUuid, variantId, substationsIds, equipmentType, infoTypeParameters, nominalVoltages, bodySupplier);
+    }
+
+    /**
+     * Same as {@link #getElementsInfos(UUID, String, List, ElementType, InfoTypeParameters, List)}, the infos of each element
+     * being given to {@code consumer} as soon as its batch is mapped instead of being collected.
+     */
+    public void streamElementsInfos(UUID networkUuid, String variantId, @NonNull List<String> substationsIds, ElementType equipmentType, InfoTypeParameters infoTypeParameters,
+                                    List<Double> nominalVoltages, @NonNull Consumer<ElementInfos> consumer) {
+        PreloadingStrategy preloadingStrategy = getPreloadingStrategy(networkUuid, equipmentType, infoTypeParameters.getInfoType(), substationsIds);
+        readInStepsAndLearnSize(networkUuid, preloadingStrategy, variantId, reads -> {
+            List<Identifiable<?>> identifiables = reads.read((network, loadedStrategy, revision) ->
+                    new ArrayList<>(getIdentifiableStream(network, substationsIds, equipmentType, nominalVoltages).toList()));
+            mapInBatches(reads, identifiables, equipmentType, infoTypeParameters).forEach(consumer);
+            return null;
+        });
+    }
+
+    /**
+     * Same as {@link #readAndLearnSize(UUID, PreloadingStrategy, String, Function)}, the network being read in several
+     * steps (see {@link NetworkCache#readInSteps}) within the same {@link MappingContext}.
+     */
+    private <T> T readInStepsAndLearnSize(UUID networkUuid, PreloadingStrategy strategy, String variantId, Function<NetworkCache.NetworkReads, T> reader) {
+        return MappingContext.run(() -> networkCache.readInSteps(networkUuid, strategy, variantId, reads -> {
+            if (strategy != PreloadingStrategy.NONE) {
+                reads.read((network, loadedStrategy, revision) -> {
+                    preloadingStrategyPlanner.learnNetworkSize(networkUuid, network);
+                    return null;
+                });
+            }
+            return reader.apply(reads);
+        }));
+    }
+
+    /**
+     * The infos of the elements, mapped by batches each read with the network locked: the infos of a batch are given to
+     * the consumers of the stream after the network is unlocked, so that writing them doesn't block the other requests
+     * reading the network.
+     */
+    private static Stream<ElementInfos> mapInBatches(NetworkCache.NetworkReads reads, List<Identifiable<?>> identifiables, ElementType elementType,
+                                                     InfoTypeParameters infoTypeParameters) {
+        return IntStream.iterate(0, start -> start < identifiables.size(), start -> start + STREAMING_BATCH_SIZE)
+                .mapToObj(start -> identifiables.subList(start, Math.min(start + STREAMING_BATCH_SIZE, identifiables.size())))
+                .flatMap(batch -> reads.read((network, loadedStrategy, revision) -> batch.stream()
+                        .map(identifiable -> elementType.getInfosGetter().apply(identifiable, infoTypeParameters))
+                        .toList())
+                        .stream());
+    }
+
+    public ElementInfos getElementInfos(UUID networkUuid, String variantId, ElementType elementType, InfoTypeParameters infoTypeParameters, String elementId) {
+        return read(networkUuid, PreloadingStrategy.NONE, variantId, network -> {
+            Identifiable<?> identifiable;
+            if (elementType == ElementType.BUS) {
+                identifiable = network.getBusView().getBus(elementId);
+            } else {
+                identifiable = network.getIdentifiable(elementId);
+            }
+            if (identifiable == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+            }
+            return elementType.getInfosGetter().apply(identifiable, infoTypeParameters);
+        });
     }
 
     /**
-     * Get element's infos by a list of element IDs.
+     * Get element's infos by a list of element IDs, in the order of the IDs, the duplicate IDs being ignored.
      * Elements that are not found in the network are silently ignored.
      *
      * @param networkUuid       the network UUID
@@ -353,42 +641,159 @@ public class NetworkMapService {
      * @param elementType       the type of elements to retrieve
      * @param infoTypeParameters the info type parameters
      * @param elementIds        the list of element IDs to retrieve
-     * @return list of ElementInfos for found elements
+     * @return list of ElementInfos for found elements, in the order of the requested IDs
      */
     public List<ElementInfos> getElementsInfosByIds(UUID networkUuid, String variantId, ElementType elementType, InfoTypeParameters infoTypeParameters, @NonNull List<String> elementIds) {
         if (elementIds.isEmpty()) {
             return Collections.emptyList();
         }
 
-        Set<String> idSet = new HashSet<>(elementIds);
+        // the elements are looked up by id, so that only the requested ones are fetched and mapped
+        List<String> distinctIds = elementIds.stream().distinct().toList();
+        PreloadingStrategy preloadingStrategy = preloadingStrategyPlanner.planIdsLookup(networkUuid, elementType, infoTypeParameters.getInfoType(), distinctIds.size());
+        return readAndLearnSize(networkUuid, preloadingStrategy, variantId, network -> {
+            List<Identifiable<?>> identifiables = distinctIds.stream()
+                    .<Identifiable<?>>map(id -> getIdentifiable(network, elementType, id))
+                    .filter(Objects::nonNull)
+                    .toList();
+            return identifiables.stream()
+                    .map(identifiable -> elementType.getInfosGetter().apply(identifiable, infoTypeParameters))
+                    .collect(Collectors.toList());
+        });
+    }
 
-        return getElementsInfos(networkUuid, variantId, List.of(), elementType, infoTypeParameters, null)
-                .stream()
-                .filter(info -> idSet.contains(info.getId()))
-                .toList();
+    /**
+     * Get the infos of elements of several types by their ids, grouped by type in the order of the requested elements.
+     * Elements that are not found in the network are silently ignored.
+     *
+     * @param infoTypeParameters the info type parameters of the elements, their info type being TAB by default
+     * @param elementLookups the ids of the elements, with their type and info type if they are not the default ones
+     */
+    public Map<ElementType, List<ElementInfos>> getElementsInfosByLookups(UUID networkUuid, String variantId, InfoTypeParameters infoTypeParameters,
+                                                                          @NonNull List<ElementLookup> elementLookups) {
+        if (elementLookups.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        ElementInfos.InfoType defaultInfoType = infoTypeParameters.getInfoType() != null ? infoTypeParameters.getInfoType() : ElementInfos.InfoType.TAB;
+        List<ElementLookup> distinctLookups = elementLookups.stream().distinct().toList();
+        Map<ElementType, Integer> idCountByType = distinctLookups.stream()
+                .filter(lookup -> lookup.getElementType() != null)
+                .collect(Collectors.toMap(ElementLookup::getElementType, lookup -> 1, Integer::sum, () -> new EnumMap<>(ElementType.class)));
+        int untypedIdCount = (int) distinctLookups.stream().filter(lookup -> lookup.getElementType() == null).count();
+        PreloadingStrategy preloadingStrategy = preloadingStrategyPlanner.planIdsLookup(networkUuid, idCountByType, untypedIdCount, defaultInfoType);
+
+        return readAndLearnSize(networkUuid, preloadingStrategy, variantId, network -> {
+            List<LookedUpElement> elements = new ArrayList<>();
+            for (ElementLookup lookup : distinctLookups) {
+                Identifiable<?> identifiable = lookup.getElementType() != null ?
+                        getIdentifiable(network, lookup.getElementType(), lookup.getId()) :
+                        network.getIdentifiable(lookup.getId());
+                ElementType elementType = lookup.getElementType() != null || identifiable == null ? lookup.getElementType() : ElementType.getElementType(identifiable);
+                if (identifiable != null && elementType != null) {
+                    InfoTypeParameters elementInfoTypeParameters = new InfoTypeParameters(lookup.getInfoType() != null ? lookup.getInfoType() : defaultInfoType,
+                            infoTypeParameters.getOptionalParameters());
+                    elementInfoTypeParameters.setFields(infoTypeParameters.getFields());
+                    elements.add(new LookedUpElement(identifiable, elementType, elementInfoTypeParameters));
+                }
+            }
+            Map<ElementType, List<ElementInfos>> elementsInfosByType = new EnumMap<>(ElementType.class);
+            elements.forEach(element -> elementsInfosByType.computeIfAbsent(element.elementType(), type -> new ArrayList<>())
+                    .add(element.elementType().getInfosGetter().apply(element.identifiable(), element.infoTypeParameters())));
+            return elementsInfosByType;
+        });
+    }
+
+    private record LookedUpElement(Identifiable<?> identifiable, ElementType elementType, InfoTypeParameters infoTypeParameters) {
+    }
+
+    /**
+     * Get an element of a type by its id, {@code null} if the network has no element of this type with this id.
+     */
+    @Nullable
+    private static Identifiable<?> getIdentifiable(Network network, ElementType elementType, String id) {
+        return switch (elementType) {
+            case SUBSTATION -> network.getSubstation(id);
+            case VOLTAGE_LEVEL -> network.getVoltageLevel(id);
+            case BRANCH -> Optional.<Identifiable<?>>ofNullable(network.getLine(id)).orElseGet(() -> network.getTwoWindingsTransformer(id));
+            case LINE -> network.getLine(id);
+            case TIE_LINE -> network.getTieLine(id);
+            case HVDC_LINE -> network.getHvdcLine(id);
+            case HVDC_LINE_LCC -> getHvdcLine(network, id, HvdcType.LCC);
+            case HVDC_LINE_VSC -> getHvdcLine(network, id, HvdcType.VSC);
+            case LOAD -> network.getLoad(id);
+            case TWO_WINDINGS_TRANSFORMER -> network.getTwoWindingsTransformer(id);
+            case THREE_WINDINGS_TRANSFORMER -> network.getThreeWindingsTransformer(id);
+            case BUSBAR_SECTION -> network.getBusbarSection(id);
+            case BUS -> network.getBusView().getBus(id);
+            case GENERATOR -> network.getGenerator(id);
+            case BATTERY -> network.getBattery(id);
+            case SHUNT_COMPENSATOR -> network.getShuntCompensator(id);
+            case BOUNDARY_LINE -> network.getBoundaryLine(id);
+            case STATIC_VAR_COMPENSATOR -> network.getStaticVarCompensator(id);
+            case LCC_CONVERTER_STATION -> network.getLccConverterStation(id);
+            case VSC_CONVERTER_STATION -> network.getVscConverterStation(id);
+        };
+    }
+
+    @Nullable
+    private static HvdcLine getHvdcLine(Network network, String id, HvdcType type) {
+        HvdcLine hvdcLine = network.getHvdcLine(id);
+        return hvdcLine != null && hvdcLine.getConverterStation1().getHvdcType() == type ? hvdcLine : null;
     }
 
     public String getBranchOr3WTVoltageLevelId(UUID networkUuid, String variantId, String equipmentId, ThreeSides side) {
-        Network network = getNetwork(networkUuid, PreloadingStrategy.NONE, variantId);
-        Branch<?> branch = network.getBranch(equipmentId);
-        if (branch != null) {
-            return branch.getTerminal(side.toTwoSides()).getVoltageLevel().getId();
+        EquipmentLocationInfos location = equipmentLocator.locateIfIndexed(networkUuid, variantId, equipmentId);
+        if (location != null && (location.getType() == IdentifiableType.LINE || location.getType() == IdentifiableType.TWO_WINDINGS_TRANSFORMER
+                || location.getType() == IdentifiableType.TIE_LINE)) {
+            return location.getVoltageLevelIds().get(side.toTwoSides().ordinal());
         }
-        ThreeWindingsTransformer threeWT = network.getThreeWindingsTransformer(equipmentId);
-        if (threeWT != null) {
-            return threeWT.getLeg(side).getTerminal().getVoltageLevel().getId();
+        if (location != null && location.getType() == IdentifiableType.THREE_WINDINGS_TRANSFORMER) {
+            return location.getVoltageLevelIds().get(side.ordinal());
         }
-        throw new ResponseStatusException(HttpStatus.NO_CONTENT);
+        return read(networkUuid, PreloadingStrategy.NONE, variantId, network -> {
+            Branch<?> branch = network.getBranch(equipmentId);
+            if (branch != null) {
+                return branch.getTerminal(side.toTwoSides()).getVoltageLevel().getId();
+            }
+            ThreeWindingsTransformer threeWT = network.getThreeWindingsTransformer(equipmentId);
+            if (threeWT != null) {
+                return threeWT.getLeg(side).getTerminal().getVoltageLevel().getId();
+            }
+            throw new ResponseStatusException(HttpStatus.NO_CONTENT);
+        });
     }
 
-    public HvdcShuntCompensatorsInfos getHvdcLineShuntCompensators(UUID networkUuid, String variantId, String hvdcId) {
-        Network network = getNetwork(networkUuid, PreloadingStrategy.NONE, variantId);
-        HvdcLine hvdcLine = network.getHvdcLine(hvdcId);
-        if (hvdcLine == null) {
-            // called from a modification, then we must support unexisting equipment
-            return HvdcShuntCompensatorsInfos.builder().id(hvdcId).build();
+    /**
+     * Get the type, voltage levels and substations of equipments, from the equipment index if it is enabled.
+     * Equipments that are not found in the network are silently ignored.
+     */
+    public List<EquipmentLocationInfos> locate(UUID networkUuid, String variantId, @NonNull List<String> equipmentIds) {
+        if (equipmentLocator.isEnabled()) {
+            return equipmentLocator.locate(networkUuid, variantId, equipmentIds);
         }
-        return HvdcInfosMapper.toHvdcShuntCompensatorsInfos(hvdcLine);
+        return read(networkUuid, PreloadingStrategy.NONE, variantId, network -> equipmentIds.stream()
+                .distinct()
+                .<Identifiable<?>>map(network::getIdentifiable)
+                .filter(Objects::nonNull)
+                .map(EquipmentLocator::getLocation)
+                .toList());
+    }
+
+    public EquipmentLocationInfos locate(UUID networkUuid, String variantId, String equipmentId) {
+        return locate(networkUuid, variantId, List.of(equipmentId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    public HvdcShuntCompensatorsInfos getHvdcLineShuntCompensators(UUID networkUuid, String variantId, String hvdcId) {
+        return read(networkUuid, PreloadingStrategy.NONE, variantId, network -> {
+            HvdcLine hvdcLine = network.getHvdcLine(hvdcId);
+            if (hvdcLine == null) {
+                // called from a modification, then we must support unexisting equipment
+                return HvdcShuntCompensatorsInfos.builder().id(hvdcId).build();
+            }
+            return HvdcInfosMapper.toHvdcShuntCompensatorsInfos(hvdcLine);
+        });
     }
 
     public List<String> getElementsIds(UUID networkUuid, String variantId, @NonNull List<String> substationsIds, ElementType elementType, List<Double> nominalVoltages) {
@@ -405,23 +810,66 @@ public class NetworkMapService {
         };
     }
 
+    /**
+     * Get the ids of the elements selected by a query combining filters, by element type: the union of the elements of
+     * the included filters minus the elements of the excluded filters, evaluated on bitsets of the secondary indexes.
+     */
+    public Map<ElementType, List<String>> getElementsIds(UUID networkUuid, String variantId, @NonNull ElementsIdsQuery query) {
+        return readElementsIdsQuery(networkUuid, variantId, query, network ->
+                secondaryIndexes.getElementsIds(network, query, elementType -> getIdentifiableStream(network, List.of(), elementType, null)));
+    }
+
+    /**
+     * Same as {@link #getElementsIds(UUID, String, ElementsIdsQuery)}, only counting the elements selected.
+     */
+    public Map<ElementType, Integer> countElements(UUID networkUuid, String variantId, @NonNull ElementsIdsQuery query) {
+        return readElementsIdsQuery(networkUuid, variantId, query, network ->
+                secondaryIndexes.countElements(network, query, elementType -> getIdentifiableStream(network, List.of(), elementType, null)));
+    }
+
+    private <T> Map<ElementType, T> readElementsIdsQuery(UUID networkUuid, String variantId, ElementsIdsQuery query,
+                                                          Function<Network, Map<ElementType, T>> reader) {
+        Set<ElementType> elementTypes = Stream.ofNullable(query.getIncluded())
+                .flatMap(List::stream)
+                .map(ElementsFilter::getElementTypes)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(ElementType.class)));
+        if (elementTypes.isEmpty()) {
+            return Map.of();
+        }
+        PreloadingStrategy preloadingStrategy = preloadingStrategyPlanner.plan(networkUuid, elementTypes, ElementInfos.InfoType.LIST, List.of(), false);
+        return readAndLearnSize(networkUuid, preloadingStrategy, variantId, reader);
+    }
+
     private List<String> getConnectablesIds(UUID networkUuid, String variantId, @NonNull List<String> substationsIds, ElementType elementType, List<Double> nominalVoltages) {
-        Network network = getNetwork(networkUuid, getPreloadingStrategy(substationsIds), variantId);
-        if (substationsIds.isEmpty() && nominalVoltages == null) {
-            return elementType.getConnectableStream(network).map(Connectable::getId).toList();
-        } else {
-            if (!elementType.isConnectable()) { // early break if not supported
-                throw new IllegalStateException("Unexpected non-connectable element type: " + elementType);
+        return readAndLearnSize(networkUuid, getPreloadingStrategy(networkUuid, elementType, ElementInfos.InfoType.LIST, substationsIds), variantId, network -> {
+            if (substationsIds.isEmpty() && nominalVoltages == null) {
+                return elementType.getConnectableStream(network).map(Connectable::getId).toList();
+            } else {
+                if (!elementType.isConnectable()) { // early break if not supported
+                    throw new IllegalStateException("Unexpected non-connectable element type: " + elementType);
+                }
+                return getVoltageLevelStream(network, substationsIds, nominalVoltages)
+                        .flatMap(elementType::getVoltageLevelConnectableStream)
+                        .map(Connectable::getId)
+                        .distinct()
+                        .collect(Collectors.toList());
             }
-            return getVoltageLevelStream(network, substationsIds, nominalVoltages)
-                    .flatMap(elementType::getVoltageLevelConnectableStream)
-                    .map(Connectable::getId)
-                    .distinct()
-                    .collect(Collectors.toList());
-        }
+        });
     }
 
-    private static Stream<VoltageLevel> getVoltageLevelStream(Network network, @NonNull List<String> substationsIds, List<Double> nominalVoltages) {
+    /**
+     * Get the voltage levels of the substations, of the whole network if there are none, with the given nominal voltages
+     * if any: from the secondary indexes of the network when it is cached.
+     */
+    private Stream<VoltageLevel> getVoltageLevelStream(Network network, @NonNull List<String> substationsIds, List<Double> nominalVoltages) {
+        if (nominalVoltages != null && secondaryIndexes.isEnabled()) {
+            List<String> voltageLevelsIds = secondaryIndexes.getVoltageLevelsIds(network, substationsIds, nominalVoltages);
+            if (voltageLevelsIds != null) {
+                return voltageLevelsIds.stream().map(network::getVoltageLevel);
+            }
+        }
         Stream<VoltageLevel> voltageLevelStream =
                 substationsIds.isEmpty() ?
                         network.getVoltageLevelStream() :
@@ -430,17 +878,82 @@ public class NetworkMapService {
     }
 
     public Set<Country> getCountries(UUID networkUuid, String variantId) {
-        Network network = getNetwork(networkUuid, PreloadingStrategy.COLLECTION, variantId);
-        return network.getSubstationStream()
-                .map(Substation::getCountry)
-                .flatMap(Optional::stream)
-                .collect(Collectors.toSet());
+        return readAndLearnSize(networkUuid, PreloadingStrategy.COLLECTION, variantId, network -> secondaryIndexes.isEnabled() ?
+                secondaryIndexes.getCountries(network) :
+                network.getSubstationStream()
+                        .map(Substation::getCountry)
+                        .flatMap(Optional::stream)
+                        .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Evict a network variant, or all the variants of the network if {@code variantId} is {@code null}, when it has
+     * changed in the network store: the subscribers to its changes are then notified.
+     */
+    public void evictNetwork(UUID networkUuid, String variantId) {
+        networkCache.evict(networkUuid, variantId);
+        responseCache.evict(networkUuid, variantId);
+        eventPublisher.publishEvent(new NetworkChangedEvent(networkUuid, variantId));
+    }
+
+    /**
+     * Load the variants of a network with all its collections and compute the tab infos of the given element types, so
+     * that the network store collections and extensions are fetched and kept in the network cache for the next requests.
+     * Nothing is loaded when the network cache is disabled, as the loaded variants would not be kept.
+     *
+     * @param variantIds the variants to warm up, the initial variant if empty
+     * @param elementTypes the element types to warm up, the ones of the map and spreadsheet views if empty
+     */
+    public NetworkWarmupInfos warmup(UUID networkUuid, @NonNull List<String> variantIds, @NonNull List<ElementType> elementTypes) {
+        long startTime = System.nanoTime();
+        if (!networkCache.isEnabled()) {
+            return NetworkWarmupInfos.builder()
+                    .networkUuid(networkUuid)
+                    .cached(false)
+                    .variants(List.of())
+                    .durationMillis(getMillisSince(startTime))
+                    .build();
+        }
+        List<ElementType> warmedUpTypes = elementTypes.isEmpty() ? ALL_ELEMENTS_TYPES : elementTypes;
+        List<NetworkWarmupInfos.VariantWarmupInfos> variantsInfos = (variantIds.isEmpty() ? Collections.<String>singletonList(null) : variantIds).stream()
+                .map(variantId -> warmupVariant(networkUuid, variantId, warmedUpTypes))
+                .toList();
+        return NetworkWarmupInfos.builder()
+                .networkUuid(networkUuid)
+                .cached(true)
+                .variants(variantsInfos)
+                .durationMillis(getMillisSince(startTime))
+                .build();
+    }
+
+    private NetworkWarmupInfos.VariantWarmupInfos warmupVariant(UUID networkUuid, String variantId, List<ElementType> elementTypes) {
+        long startTime = System.nanoTime();
+        return readAndLearnSize(networkUuid, PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW, variantId, network -> {
+            long loadingMillis = getMillisSince(startTime);
+            Map<ElementType, Long> elementTypesMillis = new LinkedHashMap<>();
+            for (ElementType elementType : elementTypes) {
+                long elementTypeStartTime = System.nanoTime();
+                getElementsInfosOfType(network, List.of(), elementType, InfoTypeParameters.TAB, null);
+                elementTypesMillis.put(elementType, getMillisSince(elementTypeStartTime));
+            }
+            return NetworkWarmupInfos.VariantWarmupInfos.builder()
+                    .variantId(network.getVariantManager().getWorkingVariantId())
+                    .loadingMillis(loadingMillis)
+                    .elementTypesMillis(elementTypesMillis)
+                    .durationMillis(getMillisSince(startTime))
+                    .build();
+        });
+    }
+
+    private static long getMillisSince(long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
     }
 
     public Set<Double> getNominalVoltages(UUID networkUuid, String variantId) {
-        Network network = getNetwork(networkUuid, PreloadingStrategy.COLLECTION, variantId);
-        return network.getVoltageLevelStream()
-                .map(VoltageLevel::getNominalV)
-                .collect(Collectors.toSet());
+        return readAndLearnSize(networkUuid, PreloadingStrategy.COLLECTION, variantId, network -> secondaryIndexes.isEnabled() ?
+                secondaryIndexes.getNominalVoltages(network) :
+                network.getVoltageLevelStream()
+                        .map(VoltageLevel::getNominalV)
+                        .collect(Collectors.toSet()));
     }
 }
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.gridsuite.network.map.dto.NetworkWarmupInfos;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Warm up the configured networks when the application starts, so that the first users of the most used studies don't
+ * pay the loading of the network collections. The application is only reported ready to accept traffic once the
+ * networks are loaded.
+ */
+@Component
+@Slf4j
+public class NetworkPrefetcher {
+    private final NetworkMapService networkMapService;
+
+    private final NetworkCache networkCache;
+
+    private final List<UUID> networksUuids;
+
+    public NetworkPrefetcher(NetworkMapService networkMapService, NetworkCache networkCache,
+                             @Value("${network-map.prefetch.networks:}") List<UUID> networksUuids) {
+        this.networkMapService = networkMapService;
+        this.networkCache = networkCache;
+        this.networksUuids = networksUuids;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prefetchNetworks() {
+        if (networksUuids.isEmpty()) {
+            return;
+        }
+        if (!networkCache.isEnabled()) {
+            log.warn("Networks {} are not prefetched as the network cache is disabled", networksUuids);
+            return;
+        }
+        for (UUID networkUuid : networksUuids) {
+            try {
+                NetworkWarmupInfos warmupInfos = networkMapService.warmup(networkUuid, List.of(), List.of());
+                log.info("Network {} prefetched in {} ms", networkUuid, warmupInfos.getDurationMillis());
+            } catch (Exception e) {
+                // a network that can't be loaded must not prevent the application from starting
+                log.error("Network {} could not be prefetched", networkUuid, e);
+            }
+        }
+    }
+}
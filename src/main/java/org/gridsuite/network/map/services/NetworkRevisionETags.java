@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * The ETags of the responses computed from a network variant, and the conditional requests ({@code If-None-Match})
+ * answered with a 304 status when the response has not changed.
+ * <p>
+ * An ETag is made of the revision of the network instance cached for the variant (see
+ * {@link NetworkCache#getCachedRevision}) and of a digest of the request (its path, query parameters, accepted media
+ * types and body), prefixed by a random id of the server instance since the revisions are only meaningful within a
+ * server instance. The revision changing each time the variant is loaded again, the ETags are only computed when the
+ * network cache is enabled and the variant is cached. The requests are POST requests for some of them, they are still
+ * answered with a 304 status, as they only read the network.
+ */
+@Component
+public class NetworkRevisionETags {
+    private final boolean enabled;
+
+    private final NetworkCache networkCache;
+
+    private final ObjectWriter bodyWriter;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public NetworkRevisionETags(@Value("${network-map.etag.enabled:true}") boolean enabled,
+                                NetworkCache networkCache,
+                                ObjectMapper objectMapper) {
+        this.enabled = enabled && networkCache.isEnabled();
+        this.networkCache = networkCache;
+        this.bodyWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    /**
+     * Set the ETag of the response, and check whether the client already has it. No ETag is set when the variant is not
+     * cached.
+     *
+     * @param body the body of the request, if any
+     * @return {@code true} if the response has not changed, its status being then set to 304 and its body having to be empty
+     */
+    public boolean checkNotModified(HttpServletRequest request, HttpServletResponse response, UUID networkUuid, @Nullable String variantId, Object... body) {
+        OptionalLong revision = enabled ? networkCache.getCachedRevision(networkUuid, variantId) : OptionalLong.empty();
+        if (revision.isEmpty()) {
+            return false;
+        }
+        String etag = "\"" + instanceId + "-" + revision.getAsLong() + "-" + getRequestDigest(request, body) + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(etag))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return true;
+        }
+        return false;
+    }
+
+    private String getRequestDigest(HttpServletRequest request, Object... body) {
+        try {
+            String query = request.getRequestURI() + "?" + request.getQueryString() + request.getHeader(HttpHeaders.ACCEPT) + bodyWriter.writeValueAsString(Arrays.asList(body));
+            return DigestUtils.md5DigestAsHex(query.getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.VoltageLevel;
+import lombok.NonNull;
+import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.ElementsFilter;
+import org.gridsuite.network.map.dto.ElementsIdsQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Secondary indexes of the voltage levels and substations of the cached network instances: the voltage levels by
+ * nominal voltage and by substation, and the substations by country, as bitsets over the ordinals of the voltage levels
+ * and substations in the network. The filters on nominal voltages are then intersections of bitsets instead of scans
+ * of the voltage levels.
+ * <p>
+ * The indexes of an instance are built the first time they are needed, and are dropped with the instance: a network
+ * instance is not changed once loaded, the network store changes being read by loading a new one. As an instance is
+ * only reused when the network cache is enabled, the indexes are only used then, except for the queries of elements
+ * ids which are evaluated on indexes built for the request otherwise.
+ * <p>
+ * The elements of a type are indexed by voltage level the first time they are queried, so that the queries combining
+ * substations, countries and nominal voltages predicates are evaluated as operations on bitsets.
+ */
+@Component
+public class NetworkSecondaryIndexes {
+    private final boolean enabled;
+
+    // the networks are weak keys, compared by identity
+    private final Cache<Network, Index> indexes;
+
+    public NetworkSecondaryIndexes(NetworkCache networkCache,
+                                   @Value("${network-map.secondary-indexes.enabled:true}") boolean enabled,
+                                   @Value("${network-map.secondary-indexes.max-size:10}") long maxSize) {
+        this.enabled = enabled && networkCache.isEnabled();
+        this.indexes = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The ids of the voltage levels of the substations, of the whole network if there are none, whose nominal voltage is
+     * one of the given ones: substation by substation, in the order of the network within a substation.
+     *
+     * @return {@code null} if one of the substations is not in the network
+     */
+    @Nullable
+    public List<String> getVoltageLevelsIds(Network network, @NonNull List<String> substationsIds, @NonNull Collection<Double> nominalVoltages) {
+        Index index = getIndex(network);
+        BitSet voltageLevels = index.getVoltageLevels(nominalVoltages);
+        if (substationsIds.isEmpty()) {
+            return index.getVoltageLevelsIds(voltageLevels);
+        }
+        List<String> voltageLevelsIds = new ArrayList<>();
+        for (String substationId : substationsIds) {
+            Integer substation = index.substationOrdinals().get(substationId);
+            if (substation == null) {
+                return null;
+            }
+            BitSet substationVoltageLevels = (BitSet) index.substationsVoltageLevels()[substation].clone();
+            substationVoltageLevels.and(voltageLevels);
+            voltageLevelsIds.addAll(index.getVoltageLevelsIds(substationVoltageLevels));
+        }
+        return voltageLevelsIds;
+    }
+
+    /**
+     * The ids of the substations, of the whole network if there are none, having a voltage level whose nominal voltage
+     * is one of the given ones.
+     *
+     * @return {@code null} if one of the substations is not in the network
+     */
+    @Nullable
+    public List<String> getSubstationsIds(Network network, @NonNull List<String> substationsIds, @NonNull Collection<Double> nominalVoltages) {
+        Index index = getIndex(network);
+        BitSet voltageLevels = index.getVoltageLevels(nominalVoltages);
+        List<String> filteredSubstationsIds = new ArrayList<>();
+        for (String substationId : substationsIds.isEmpty() ? List.of(index.substationsIds()) : substationsIds) {
+            Integer substation = index.substationOrdinals().get(substationId);
+            if (substation == null) {
+                return null;
+            }
+            if (index.substationsVoltageLevels()[substation].intersects(voltageLevels)) {
+                filteredSubstationsIds.add(substationId);
+            }
+        }
+        return filteredSubstationsIds;
+    }
+
+    public Set<Country> getCountries(Network network) {
+        return Set.copyOf(getIndex(network).substationsByCountry().keySet());
+    }
+
+    public Set<Double> getNominalVoltages(Network network) {
+        return Set.copyOf(getIndex(network).voltageLevelsByNominalVoltage().keySet());
+    }
+
+    /**
+     * The ids of the elements selected by a query, by element type, in the order of the network.
+     *
+     * @param elementsGetter the elements of a type in the network
+     */
+    public Map<ElementType, List<String>> getElementsIds(Network network, ElementsIdsQuery query,
+                                                         Function<ElementType, Stream<? extends Identifiable<?>>> elementsGetter) {
+        Index index = getIndex(network);
+        Map<ElementType, List<String>> elementsIds = new EnumMap<>(ElementType.class);
+        evaluate(index, query, elementsGetter).forEach((elementType, elements) ->
+                elementsIds.put(elementType, index.elementsIndexes().get(elementType).getIds(elements)));
+        return elementsIds;
+    }
+
+    /**
+     * Same as {@link #getElementsIds}, only counting the elements selected.
+     */
+    public Map<ElementType, Integer> countElements(Network network, ElementsIdsQuery query,
+                                                   Function<ElementType, Stream<? extends Identifiable<?>>> elementsGetter) {
+        Map<ElementType, Integer> counts = new EnumMap<>(ElementType.class);
+        evaluate(getIndex(network), query, elementsGetter).forEach((elementType, elements) -> counts.put(elementType, elements.cardinality()));
+        return counts;
+    }
+
+    /**
+     * The elements of each type selected by the query, as bitsets of their ordinals: the union of the elements of the
+     * included filters, minus the ones of the excluded filters.
+     */
+    private static Map<ElementType, BitSet> evaluate(Index index, ElementsIdsQuery query, Function<ElementType, Stream<? extends Identifiable<?>>> elementsGetter) {
+        Map<ElementType, BitSet> selected = new EnumMap<>(ElementType.class);
+        for (ElementsFilter filter : Objects.requireNonNullElse(query.getIncluded(), List.<ElementsFilter>of())) {
+            BitSet voltageLevels = index.getVoltageLevels(filter);
+            for (ElementType elementType : Objects.requireNonNullElse(filter.getElementTypes(), List.<ElementType>of())) {
+                selected.computeIfAbsent(elementType, type -> new BitSet())
+                        .or(index.getElementsIndex(elementType, elementsGetter).getElements(voltageLevels));
+            }
+        }
+        for (ElementsFilter filter : Objects.requireNonNullElse(query.getExcluded(), List.<ElementsFilter>of())) {
+            BitSet voltageLevels = index.getVoltageLevels(filter);
+            for (ElementType elementType : Objects.requireNonNullElse(filter.getElementTypes(), List.<ElementType>of())) {
+                BitSet elements = selected.get(elementType);
+                if (elements != null) {
+                    elements.andNot(index.getElementsIndex(elementType, elementsGetter).getElements(voltageLevels));
+                }
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * The indexes of the network, built for the request only when they are not cached.
+     */
+    private Index getIndex(Network network) {
+        return enabled ? indexes.get(network, NetworkSecondaryIndexes::buildIndex) : buildIndex(network);
+    }
+
+    private static Index buildIndex(Network network) {
+        List<Substation> substations = network.getSubstationStream().toList();
+        String[] substationsIds = new String[substations.size()];
+        Map<String, Integer> substationOrdinals = new HashMap<>(substations.size() * 2);
+        Map<Country, BitSet> substationsByCountry = new EnumMap<>(Country.class);
+        for (int i = 0; i < substationsIds.length; i++) {
+            Substation substation = substations.get(i);
+            substationsIds[i] = substation.getId();
+            substationOrdinals.put(substation.getId(), i);
+            int ordinal = i;
+            substation.getCountry().ifPresent(country -> substationsByCountry.computeIfAbsent(country, c -> new BitSet()).set(ordinal));
+        }
+
+        List<VoltageLevel> voltageLevels = network.getVoltageLevelStream().toList();
+        String[] voltageLevelsIds = new String[voltageLevels.size()];
+        Map<String, Integer> voltageLevelOrdinals = new HashMap<>(voltageLevels.size() * 2);
+        Map<Double, BitSet> voltageLevelsByNominalVoltage = new HashMap<>();
+        BitSet[] substationsVoltageLevels = new BitSet[substationsIds.length];
+        for (int i = 0; i < substationsVoltageLevels.length; i++) {
+            substationsVoltageLevels[i] = new BitSet();
+        }
+        for (int i = 0; i < voltageLevelsIds.length; i++) {
+            VoltageLevel voltageLevel = voltageLevels.get(i);
+            voltageLevelsIds[i] = voltageLevel.getId();
+            voltageLevelOrdinals.put(voltageLevel.getId(), i);
+            voltageLevelsByNominalVoltage.computeIfAbsent(voltageLevel.getNominalV(), nominalV -> new BitSet()).set(i);
+            int ordinal = i;
+            voltageLevel.getSubstation().ifPresent(substation -> substationsVoltageLevels[substationOrdinals.get(substation.getId())].set(ordinal));
+        }
+        return new Index(voltageLevelsIds, voltageLevelOrdinals, substationsIds, substationOrdinals, voltageLevelsByNominalVoltage,
+                substationsVoltageLevels, substationsByCountry, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * @param substationsVoltageLevels the voltage levels of each substation, by substation ordinal
+     * @param substationsByCountry the substations of each country
+     * @param elementsIndexes the elements of each type by voltage level, built the first time the type is queried
+     */
+    private record Index(String[] voltageLevelsIds, Map<String, Integer> voltageLevelOrdinals, String[] substationsIds, Map<String, Integer> substationOrdinals,
+                         Map<Double, BitSet> voltageLevelsByNominalVoltage, BitSet[] substationsVoltageLevels,
+                         Map<Country, BitSet> substationsByCountry, Map<ElementType, ElementsIndex> elementsIndexes) {
+        BitSet getVoltageLevels(Collection<Double> nominalVoltages) {
+            BitSet voltageLevels = new BitSet(voltageLevelsIds.length);
+            for (Double nominalVoltage : nominalVoltages) {
+                BitSet nominalVoltageLevels = voltageLevelsByNominalVoltage.get(nominalVoltage);
+                if (nominalVoltageLevels != null) {
+                    voltageLevels.or(nominalVoltageLevels);
+                }
+            }
+            return voltageLevels;
+        }
+
+        List<String> getVoltageLevelsIds(BitSet voltageLevels) {
+            return voltageLevels.stream().mapToObj(i -> voltageLevelsIds[i]).toList();
+        }
+
+        /**
+         * The voltage levels matching all the predicates of a filter, {@code null} if it has none.
+         */
+        @Nullable
+        BitSet getVoltageLevels(ElementsFilter filter) {
+            BitSet voltageLevels = null;
+            if (filter.getSubstationsIds() != null && !filter.getSubstationsIds().isEmpty()) {
+                BitSet substations = new BitSet(substationsIds.length);
+                filter.getSubstationsIds().stream().map(substationOrdinals::get).filter(Objects::nonNull).forEach(substations::set);
+                voltageLevels = and(voltageLevels, getSubstationsVoltageLevels(substations));
+            }
+            if (filter.getCountries() != null && !filter.getCountries().isEmpty()) {
+                BitSet substations = new BitSet(substationsIds.length);
+                filter.getCountries().stream().map(substationsByCountry::get).filter(Objects::nonNull).forEach(substations::or);
+                voltageLevels = and(voltageLevels, getSubstationsVoltageLevels(substations));
+            }
+            if (filter.getNominalVoltages() != null && !filter.getNominalVoltages().isEmpty()) {
+                voltageLevels = and(voltageLevels, getVoltageLevels(filter.getNominalVoltages()));
+            }
+            return voltageLevels;
+        }
+
+        private BitSet getSubstationsVoltageLevels(BitSet substations) {
+            BitSet voltageLevels = new BitSet(voltageLevelsIds.length);
+            substations.stream().forEach(substation -> voltageLevels.or(substationsVoltageLevels[substation]));
+            return voltageLevels;
+        }
+
+        private static BitSet and(@Nullable BitSet voltageLevels, BitSet otherVoltageLevels) {
+            if (voltageLevels == null) {
+                return otherVoltageLevels;
+            }
+            voltageLevels.and(otherVoltageLevels);
+            return voltageLevels;
+        }
+
+        ElementsIndex getElementsIndex(ElementType elementType, Function<ElementType, Stream<? extends Identifiable<?>>> elementsGetter) {
+            return elementsIndexes.computeIfAbsent(elementType, type -> buildElementsIndex(elementsGetter.apply(type).toList()));
+        }
+
+        /**
+         * Index the elements by the ordinals of their voltage levels (see {@link EquipmentLocator#getVoltageLevels}).
+         */
+        private ElementsIndex buildElementsIndex(List<? extends Identifiable<?>> elements) {
+            String[] ids = new String[elements.size()];
+            int[][] elementsVoltageLevels = new int[elements.size()][];
+            int[] offsets = new int[voltageLevelsIds.length + 1];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = elements.get(i).getId();
+                elementsVoltageLevels[i] = EquipmentLocator.getVoltageLevels(elements.get(i)).stream()
+                        .map(voltageLevel -> voltageLevelOrdinals.get(voltageLevel.getId()))
+                        .filter(Objects::nonNull)
+                        .mapToInt(Integer::intValue)
+                        .distinct()
+                        .toArray();
+                for (int voltageLevel : elementsVoltageLevels[i]) {
+                    offsets[voltageLevel + 1]++;
+                }
+            }
+            for (int voltageLevel = 0; voltageLevel < voltageLevelsIds.length; voltageLevel++) {
+                offsets[voltageLevel + 1] += offsets[voltageLevel];
+            }
+            int[] elementsByVoltageLevel = new int[offsets[voltageLevelsIds.length]];
+            int[] nextPositions = Arrays.copyOf(offsets, voltageLevelsIds.length);
+            for (int i = 0; i < ids.length; i++) {
+                for (int voltageLevel : elementsVoltageLevels[i]) {
+                    elementsByVoltageLevel[nextPositions[voltageLevel]++] = i;
+                }
+            }
+            return new ElementsIndex(ids, offsets, elementsByVoltageLevel);
+        }
+    }
+
+    /**
+     * The elements of a type by voltage level: the ordinals of the elements of the voltage level of ordinal {@code v}
+     * are {@code elements[offsets[v]]} to {@code elements[offsets[v + 1] - 1]}.
+     */
+    private record ElementsIndex(String[] ids, int[] offsets, int[] elements) {
+        /**
+         * The elements having one of the voltage levels, all of them if {@code voltageLevels} is {@code null}.
+         */
+        BitSet getElements(@Nullable BitSet voltageLevels) {
+            BitSet selected = new BitSet(ids.length);
+            if (voltageLevels == null) {
+                selected.set(0, ids.length);
+                return selected;
+            }
+            voltageLevels.stream().forEach(voltageLevel -> {
+                for (int i = offsets[voltageLevel]; i < offsets[voltageLevel + 1]; i++) {
+                    selected.set(elements[i]);
+                }
+            });
+            return selected;
+        }
+
+        List<String> getIds(BitSet selected) {
+            return selected.stream().mapToObj(i -> ids[i]).toList();
+        }
+    }
+}
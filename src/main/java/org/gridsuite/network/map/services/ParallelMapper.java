@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serializes the infos of the elements of large requests on several threads of a dedicated executor, the infos of small
+ * requests being serialized on the request thread.
+ * <p>
+ * The network itself is never read concurrently: network store instances are not thread-safe, even when all their
+ * collections are preloaded, as they create the objects of the network lazily when they are first read. The elements
+ * are mapped on the request thread, and only their infos, which no longer reference the network, are given to
+ * {@link #map(List, Function)}. The results are returned in the order of the given infos.
+ */
+@Component
+public class ParallelMapper {
+    private final boolean enabled;
+
+    private final int threshold;
+
+    private final int threads;
+
+    private final ThreadPoolExecutor executor;
+
+    public ParallelMapper(@Value("${network-map.parallel-mapping.enabled:false}") boolean enabled,
+                          @Value("${network-map.parallel-mapping.threshold:10000}") int threshold,
+                          @Value("${network-map.parallel-mapping.threads:0}") int threads) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        if (enabled) {
+            AtomicInteger threadNum = new AtomicInteger();
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "parallel-mapper-" + threadNum.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            // the queue is bounded: when it is full, the request thread maps its chunks itself
+            this.executor = new ThreadPoolExecutor(this.threads, this.threads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(this.threads * 4), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        } else {
+            this.executor = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public <I extends ElementInfos, R> List<R> map(@NonNull List<I> infos, @NonNull Function<? super I, R> mapper) {
+        if (!isConcurrent(infos.size())) {
+            return infos.stream().map(mapper).collect(Collectors.toList());
+        }
+        int chunkSize = (infos.size() + threads - 1) / threads;
+        List<CompletableFuture<List<R>>> chunks = new ArrayList<>(threads);
+        for (int start = 0; start < infos.size(); start += chunkSize) {
+            List<I> chunk = infos.subList(start, Math.min(start + chunkSize, infos.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> chunk.stream().map(mapper).toList(), executor));
+        }
+        List<R> results = new ArrayList<>(infos.size());
+        join(chunks).forEach(results::addAll);
+        return results;
+    }
+
+    /**
+     * Will {@link #map(List, Function)} map {@code infosCount} infos concurrently?
+     */
+    public boolean isConcurrent(int infosCount) {
+        return enabled && infosCount >= Math.max(threshold, 2);
+    }
+
+    private static <R> List<R> join(List<CompletableFuture<R>> futures) {
+        try {
+            return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
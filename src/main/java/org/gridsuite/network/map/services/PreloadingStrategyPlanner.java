@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.gridsuite.network.map.dto.ElementInfos.InfoType;
+import org.gridsuite.network.map.dto.ElementType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Choose the network store {@link PreloadingStrategy} of a request by comparing the estimated cost of loading the
+ * selected substations element by element with the cost of preloading whole collections.
+ * <ul>
+ *     <li>Without preloading, each selected substation, each of its voltage levels and, for each requested element type,
+ *     the elements of each voltage level are fetched with one round trip. Views that read extensions need one more
+ *     round trip per element type.</li>
+ *     <li>With preloading, each requested element type (and its extensions) is fetched with one round trip, whose
+ *     transfer cost grows with the size of the network.</li>
+ * </ul>
+ * The number of voltage levels of each substation is learned from the networks loaded with collections, so that a few
+ * large substations weigh more than many small ones. Until a network has been learned, default sizes are used.
+ */
+@Component
+@Slf4j
+public class PreloadingStrategyPlanner {
+    private final double roundTripCost;
+
+    private final double collectionCostPerVoltageLevel;
+
+    private final int defaultVoltageLevelCount;
+
+    private final double defaultVoltageLevelsPerSubstation;
+
+    private final Cache<UUID, NetworkSize> networkSizes = Caffeine.newBuilder().maximumSize(100).build();
+
+    public PreloadingStrategyPlanner(@Value("${network-map.preloading.round-trip-cost:1.0}") double roundTripCost,
+                                     @Value("${network-map.preloading.collection-cost-per-voltage-level:0.01}") double collectionCostPerVoltageLevel,
+                                     @Value("${network-map.preloading.default-voltage-level-count:1000}") int defaultVoltageLevelCount,
+                                     @Value("${network-map.preloading.default-voltage-levels-per-substation:1.5}") double defaultVoltageLevelsPerSubstation) {
+        this.roundTripCost = roundTripCost;
+        this.collectionCostPerVoltageLevel = collectionCostPerVoltageLevel;
+        this.defaultVoltageLevelCount = defaultVoltageLevelCount;
+        this.defaultVoltageLevelsPerSubstation = defaultVoltageLevelsPerSubstation;
+    }
+
+    /**
+     * @param elementTypes the element types read by the request
+     * @param infoType the view of the elements
+     * @param substationsIds the selected substations, the whole network if empty
+     * @param needsBusView whether the bus view of the whole network is computed
+     */
+    public PreloadingStrategy plan(@NonNull UUID networkUuid, @NonNull Collection<ElementType> elementTypes, InfoType infoType,
+                                   @NonNull List<String> substationsIds, boolean needsBusView) {
+        PreloadingStrategy preloadingStrategy = elementTypes.size() > 1 || needsBusView ?
+                PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW :
+                PreloadingStrategy.COLLECTION;
+        if (substationsIds.isEmpty() || needsBusView) {
+            log.debug("Preloading strategy {} for network {}: whole network or bus view requested", preloadingStrategy, networkUuid);
+            return preloadingStrategy;
+        }
+
+        Optional<NetworkSize> networkSize = Optional.ofNullable(networkSizes.getIfPresent(networkUuid));
+        int typeCount = elementTypes.stream().mapToInt(PreloadingStrategyPlanner::getCollectionCount).sum();
+        int roundTripsPerType = readsExtensions(infoType) ? 2 : 1;
+        double selectedVoltageLevelCount = substationsIds.stream()
+                .mapToDouble(substationId -> networkSize.map(size -> size.getVoltageLevelCount(substationId)).orElse(defaultVoltageLevelsPerSubstation))
+                .sum();
+        int voltageLevelCount = networkSize.map(NetworkSize::voltageLevelCount).orElse(defaultVoltageLevelCount);
+
+        double noLoadingCost = roundTripCost * (2 * substationsIds.size() + selectedVoltageLevelCount * typeCount * roundTripsPerType);
+        double preloadingCost = typeCount * roundTripsPerType * (roundTripCost + voltageLevelCount * collectionCostPerVoltageLevel);
+        PreloadingStrategy strategy = preloadingCost < noLoadingCost ? preloadingStrategy : PreloadingStrategy.NONE;
+        log.debug("Preloading strategy {} for network {} ({} substations, {} voltage levels, {} element types, {} view, network size {}): cost without preloading {}, cost with preloading {}",
+                strategy, networkUuid, substationsIds.size(), selectedVoltageLevelCount, typeCount, infoType,
+                networkSize.map(size -> size.voltageLevelCount() + " voltage levels").orElse("unknown"), noLoadingCost, preloadingCost);
+        return strategy;
+    }
+
+    /**
+     * Same as {@link #plan}, for a request reading elements of a type by their ids: without preloading, each element is
+     * fetched with its own round trips.
+     *
+     * @param idCount the number of ids requested
+     */
+    public PreloadingStrategy planIdsLookup(@NonNull UUID networkUuid, @NonNull ElementType elementType, InfoType infoType, int idCount) {
+        return planIdsLookup(networkUuid, Map.of(elementType, idCount), 0, infoType);
+    }
+
+    /**
+     * Same as {@link #planIdsLookup(UUID, ElementType, InfoType, int)}, for elements of several types, and elements of
+     * unknown types which may be in the collections of all the types.
+     *
+     * @param idCountByType the number of ids requested by element type
+     * @param untypedIdCount the number of ids requested without their type
+     */
+    public PreloadingStrategy planIdsLookup(@NonNull UUID networkUuid, @NonNull Map<ElementType, Integer> idCountByType, int untypedIdCount, InfoType infoType) {
+        if (idCountByType.containsKey(ElementType.BUS)) {
+            // the buses are computed from the bus view of the whole network
+            return plan(networkUuid, idCountByType.keySet(), infoType, List.of(), false);
+        }
+        int roundTripsPerType = readsExtensions(infoType) ? 2 : 1;
+        int voltageLevelCount = Optional.ofNullable(networkSizes.getIfPresent(networkUuid)).map(NetworkSize::voltageLevelCount).orElse(defaultVoltageLevelCount);
+        int idCount = idCountByType.values().stream().mapToInt(Integer::intValue).sum() + untypedIdCount;
+        int collectionCount = untypedIdCount > 0 ?
+                ElementType.values().length :
+                idCountByType.keySet().stream().mapToInt(PreloadingStrategyPlanner::getCollectionCount).sum();
+
+        double noLoadingCost = roundTripCost * idCount * roundTripsPerType;
+        double preloadingCost = collectionCount * roundTripsPerType * (roundTripCost + voltageLevelCount * collectionCostPerVoltageLevel);
+        PreloadingStrategy strategy = preloadingCost < noLoadingCost ? PreloadingStrategy.COLLECTION : PreloadingStrategy.NONE;
+        log.debug("Preloading strategy {} for network {} ({} ids of types {}, {} ids of unknown types, {} view): cost without preloading {}, cost with preloading {}",
+                strategy, networkUuid, idCount - untypedIdCount, idCountByType.keySet(), untypedIdCount, infoType, noLoadingCost, preloadingCost);
+        return strategy;
+    }
+
+    public boolean isNetworkSizeKnown(UUID networkUuid) {
+        return networkSizes.getIfPresent(networkUuid) != null;
+    }
+
+    /**
+     * Record the size of a network, to be called with a network whose substations and voltage levels are preloaded.
+     */
+    public void learnNetworkSize(UUID networkUuid, Network network) {
+        if (isNetworkSizeKnown(networkUuid)) {
+            return;
+        }
+        Map<String, Integer> voltageLevelCountBySubstation = network.getVoltageLevelStream()
+                .map(VoltageLevel::getSubstation)
+                .flatMap(Optional::stream)
+                .collect(Collectors.groupingBy(Substation::getId, Collectors.summingInt(substation -> 1)));
+        networkSizes.put(networkUuid, new NetworkSize(network.getVoltageLevelCount(), voltageLevelCountBySubstation));
+    }
+
+    private static int getCollectionCount(ElementType elementType) {
+        return elementType == ElementType.BRANCH ? 2 : 1;
+    }
+
+    private static boolean readsExtensions(InfoType infoType) {
+        return infoType == InfoType.TAB || infoType == InfoType.FORM || infoType == InfoType.OPERATING_STATUS;
+    }
+
+    private record NetworkSize(int voltageLevelCount, Map<String, Integer> voltageLevelCountBySubstation) {
+        double getVoltageLevelCount(String substationId) {
+            return voltageLevelCountBySubstation.getOrDefault(substationId, 0);
+        }
+    }
+}
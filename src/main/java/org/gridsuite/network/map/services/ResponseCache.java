@@ -0,0 +1,244 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.InfoTypeParameters;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the serialized responses of the elements requests of some info types (the map layers by default), which are
+ * sent with the same parameters to all the users of a study. A repeated request is then answered with a copy of the
+ * cached response, gzip compressed beforehand when the compression is enabled.
+ * <p>
+ * The responses are cached for the network instance cached for their variant (see {@link NetworkCache#getCachedRevision}):
+ * they are only cached when the network cache is enabled and the variant is cached, and are computed again when the
+ * variant is loaded again, the responses of the previous instance of the variant being then removed. They are also
+ * evicted with their network from the network cache (see {@link NetworkCache#evict}). Their size in memory is bounded by
+ * the sum of their sizes in bytes. The hits and misses are recorded in the {@value #CACHE_NAME} cache metrics.
+ */
+@Component
+public class ResponseCache {
+    private static final String CACHE_NAME = "network-map.responses";
+
+    private final boolean enabled;
+
+    private final NetworkCache networkCache;
+
+    private final Set<ElementInfos.InfoType> infoTypes;
+
+    private final boolean gzip;
+
+    private final Cache<ResponseKey, CachedResponse> cache;
+
+    private final ConcurrentMap<ResponseKey, CompletableFuture<CachedResponse>> computationsInProgress = new ConcurrentHashMap<>();
+
+    /**
+     * The keys of the cached responses of each variant, all computed from the cached instance of the variant.
+     */
+    private final ConcurrentMap<VariantKey, VariantResponses> variantsResponses = new ConcurrentHashMap<>();
+
+    public ResponseCache(@Value("${network-map.response-cache.enabled:false}") boolean enabled,
+                         @Value("${network-map.response-cache.info-types:MAP}") Set<ElementInfos.InfoType> infoTypes,
+                         @Value("${network-map.response-cache.gzip:true}") boolean gzip,
+                         @Value("${network-map.response-cache.max-size:128MB}") DataSize maxSize,
+                         @Value("${network-map.response-cache.expire-after-write:PT1H}") Duration expireAfterWrite,
+                         NetworkCache networkCache,
+                         ObjectProvider<MeterRegistry> meterRegistry) {
+        this.enabled = enabled && networkCache.isEnabled();
+        this.networkCache = networkCache;
+        this.infoTypes = Set.copyOf(infoTypes);
+        this.gzip = gzip;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((ResponseKey key, CachedResponse response) -> response.size())
+                .expireAfterWrite(expireAfterWrite)
+                .evictionListener((ResponseKey key, CachedResponse response, RemovalCause cause) -> forget(key))
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    /**
+     * Are the responses of the requests with these parameters cached?
+     */
+    public boolean isCached(InfoTypeParameters infoTypeParameters) {
+        return enabled && infoTypes.contains(infoTypeParameters.getInfoType());
+    }
+
+    /**
+     * Get the cached response of an elements request, computing its body with {@code bodySupplier} if it is not cached
+     * yet. The identical requests received meanwhile wait for this computation instead of doing it again. The response
+     * is computed without being cached when the variant is not cached.
+     */
+    public CachedResponse getElementsResponse(UUID networkUuid, @Nullable String variantId, @NonNull List<String> substationsIds, ElementType elementType,
+                                              InfoTypeParameters infoTypeParameters, @Nullable List<Double> nominalVoltages, Supplier<byte[]> bodySupplier) {
+        String variant = variantId != null ? variantId : VariantManagerConstants.INITIAL_VARIANT_ID;
+        OptionalLong revision = networkCache.getCachedRevision(networkUuid, variant);
+        if (revision.isEmpty()) {
+            return newResponse(bodySupplier);
+        }
+        Set<String> fields = infoTypeParameters.getFields();
+        // the responses are cached for the revision of the instance they are computed from
+        ResponseKey key = new ResponseKey(networkUuid, variant, revision.getAsLong(), elementType,
+                infoTypeParameters.getInfoType(), new HashMap<>(infoTypeParameters.getOptionalParameters()),
+                fields == null || fields.isEmpty() ? null : new HashSet<>(fields), List.copyOf(substationsIds),
+                nominalVoltages != null ? List.copyOf(nominalVoltages) : null);
+        CachedResponse cachedResponse = cache.getIfPresent(key);
+        return cachedResponse != null ? cachedResponse : computeResponse(key, bodySupplier);
+    }
+
+    private CachedResponse computeResponse(ResponseKey key, Supplier<byte[]> bodySupplier) {
+        CompletableFuture<CachedResponse> future = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> computationInProgress = computationsInProgress.putIfAbsent(key, future);
+        if (computationInProgress != null) {
+            return await(computationInProgress);
+        }
+        CachedResponse response;
+        try {
+            response = newResponse(bodySupplier);
+            store(key, response);
+            future.complete(response);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            computationsInProgress.remove(key, future);
+        }
+        return response;
+    }
+
+    private void store(ResponseKey key, CachedResponse response) {
+        VariantKey variantKey = key.variantKey();
+        VariantResponses responses = variantsResponses.get(variantKey);
+        if (responses == null || responses.revision() < key.revision()) {
+            // the responses of the previous instance of the variant are not used anymore
+            VariantResponses newResponses = new VariantResponses(key.revision(), ConcurrentHashMap.newKeySet());
+            boolean replaced = responses == null
+                    ? variantsResponses.putIfAbsent(variantKey, newResponses) == null
+                    : variantsResponses.replace(variantKey, responses, newResponses);
+            if (replaced && responses != null) {
+                cache.invalidateAll(responses.keys());
+            }
+            responses = variantsResponses.get(variantKey);
+        }
+        // a response computed from an instance replaced meanwhile is not kept
+        if (responses != null && responses.revision() == key.revision()) {
+            responses.keys().add(key);
+            cache.put(key, response);
+        }
+    }
+
+    private void forget(ResponseKey key) {
+        VariantResponses responses = variantsResponses.get(key.variantKey());
+        if (responses != null) {
+            responses.keys().remove(key);
+        }
+    }
+
+    private static CachedResponse await(CompletableFuture<CachedResponse> computationInProgress) {
+        try {
+            return computationInProgress.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CachedResponse newResponse(Supplier<byte[]> bodySupplier) {
+        byte[] body = bodySupplier.get();
+        return new CachedResponse(body, gzip ? compress(body) : null);
+    }
+
+    /**
+     * Evict the responses of a network variant, or of all the network variants if none is given.
+     */
+    public void evict(UUID networkUuid, @Nullable String variantId) {
+        if (variantId != null) {
+            evict(new VariantKey(networkUuid, variantId));
+        } else {
+            variantsResponses.keySet().stream().filter(key -> key.networkUuid().equals(networkUuid)).toList().forEach(this::evict);
+        }
+    }
+
+    private void evict(VariantKey variantKey) {
+        VariantResponses responses = variantsResponses.remove(variantKey);
+        if (responses != null) {
+            cache.invalidateAll(responses.keys());
+        }
+    }
+
+    public void evictAll() {
+        variantsResponses.clear();
+        cache.invalidateAll();
+    }
+
+    private static byte[] compress(byte[] body) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * A cached response body, and its gzip compressed form if the compression is enabled.
+     */
+    public record CachedResponse(byte[] body, @Nullable byte[] gzipBody) {
+        int size() {
+            return body.length + (gzipBody != null ? gzipBody.length : 0);
+        }
+    }
+
+    private record ResponseKey(UUID networkUuid, String variantId, long revision, ElementType elementType, ElementInfos.InfoType infoType,
+                               Map<String, String> optionalParameters, @Nullable Set<String> fields,
+                               List<String> substationsIds, @Nullable List<Double> nominalVoltages) {
+        VariantKey variantKey() {
+            return new VariantKey(networkUuid, variantId);
+        }
+    }
+
+    private record VariantKey(UUID networkUuid, String variantId) {
+    }
+
+    private record VariantResponses(long revision, Set<ResponseKey> keys) {
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.assertj.core.api.WithAssertions;
+import org.gridsuite.network.map.services.ElementFragmentCache;
+import org.gridsuite.network.map.services.NetworkCache;
+import org.gridsuite.network.map.services.ResponseCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * The fixture of the tests of the network cache and of the features built on it, which all share the same context:
+ * a new instance of the network is loaded from the mocked network store each time it is not cached, and all the caches
+ * are emptied after each test.
+ */
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+    "network-map.cache.enabled=true",
+    "network-map.fragment-cache.enabled=true",
+    "network-map.response-cache.enabled=true",
+    "network-map.locator.enabled=true",
+    "network-map.parallel-mapping.enabled=true",
+    "network-map.parallel-mapping.threshold=2"
+})
+public abstract class AbstractCachedNetworkTest implements WithAssertions {
+    protected static final UUID NETWORK_UUID = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    @Autowired
+    protected MockMvc mvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @MockitoBean
+    protected NetworkStoreService networkStoreService;
+
+    @Autowired
+    protected NetworkCache networkCache;
+
+    @Autowired
+    protected ElementFragmentCache elementFragmentCache;
+
+    @Autowired
+    protected ResponseCache responseCache;
+
+    /**
+     * The network of {@link #NETWORK_UUID}, a new instance being created at each load.
+     */
+    protected Network createNetwork() {
+        return EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+    }
+
+    @BeforeEach
+    protected void setUpNetworkStore() {
+        given(networkStoreService.getNetwork(eq(NETWORK_UUID), any(PreloadingStrategy.class))).willAnswer(invocation -> createNetwork());
+    }
+
+    @AfterEach
+    protected void evictCaches() {
+        networkCache.evictAll();
+        elementFragmentCache.invalidateAll();
+        responseCache.evictAll();
+    }
+}
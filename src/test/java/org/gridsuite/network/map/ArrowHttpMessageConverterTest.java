@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.EnergySource;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.assertj.core.api.WithAssertions;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.definition.generator.GeneratorTabInfos;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+class ArrowHttpMessageConverterTest implements WithAssertions {
+    private final ArrowHttpMessageConverter converter = new ArrowHttpMessageConverter(new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void shouldTypeColumnsByTheirProperties() throws Exception {
+        List<ElementInfos> generators = List.of(
+                GeneratorTabInfos.builder().id("G1").targetP(10.0).voltageRegulatorOn(true).energySource(EnergySource.HYDRO).build(),
+                GeneratorTabInfos.builder().id("G2").targetP(20.0).build());
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(generators, null, ArrowHttpMessageConverter.APPLICATION_ARROW_STREAM, outputMessage);
+
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(outputMessage.getBodyAsBytes()), allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            assertThat(reader.loadNextBatch()).isTrue();
+            assertThat(root.getRowCount()).isEqualTo(2);
+            // no generator has an active power, its column is still typed by its property
+            assertThat(root.getVector("p")).isInstanceOf(Float8Vector.class);
+            assertThat(root.getVector("p").isNull(0)).isTrue();
+            assertThat(root.getVector("p").isNull(1)).isTrue();
+            assertThat(((Float8Vector) root.getVector("targetP")).get(1)).isEqualTo(20.0);
+            assertThat(((BitVector) root.getVector("voltageRegulatorOn")).get(0)).isEqualTo(1);
+            assertThat(((BitVector) root.getVector("voltageRegulatorOn")).get(1)).isZero();
+            assertThat(root.getVector("energySource")).isInstanceOf(VarCharVector.class);
+            assertThat(root.getVector("energySource").getObject(0)).hasToString("HYDRO");
+            assertThat(root.getVector("energySource").isNull(1)).isTrue();
+            assertThat(reader.loadNextBatch()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldWriteEmptyStream() throws Exception {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(List.of(), null, ArrowHttpMessageConverter.APPLICATION_ARROW_STREAM, outputMessage);
+
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(outputMessage.getBodyAsBytes()), allocator)) {
+            assertThat(reader.getVectorSchemaRoot().getSchema().getFields()).isEmpty();
+            assertThat(reader.loadNextBatch()).isFalse();
+        }
+    }
+}
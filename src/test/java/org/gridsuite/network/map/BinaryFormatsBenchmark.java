@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.WithAssertions;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.InfoTypeParameters;
+import org.gridsuite.network.map.services.NetworkMapService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Compares the size and the encoding and decoding times of the JSON, CBOR and Smile formats, for the TAB infos of the
+ * lines and generators of a large network. Not run by the build (the class name does not match the tests pattern), run
+ * it with {@code mvn test -Dtest=BinaryFormatsBenchmark [-Dbenchmark.substations=20000]}.
+ */
+@Slf4j
+@SpringBootTest
+class BinaryFormatsBenchmark implements WithAssertions {
+    private static final UUID NETWORK_UUID = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+    private static final int SUBSTATION_COUNT = Integer.getInteger("benchmark.substations", 10000);
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int ITERATIONS = 20;
+
+    @MockitoBean
+    private NetworkStoreService networkStoreService;
+
+    @Autowired
+    private NetworkMapService networkMapService;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jsonConverter;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    /**
+     * A chain of substations, each one with a voltage level, a generator, a load, and a line to the previous one.
+     */
+    private static Network createLargeNetwork() {
+        Network network = new NetworkFactoryImpl().createNetwork("large", "test");
+        for (int i = 0; i < SUBSTATION_COUNT; i++) {
+            Substation substation = network.newSubstation().setId("S" + i).setCountry(i % 2 == 0 ? Country.FR : Country.BE).add();
+            VoltageLevel voltageLevel = substation.newVoltageLevel().setId("VL" + i).setNominalV(i % 3 == 0 ? 225 : 400)
+                    .setTopologyKind(TopologyKind.BUS_BREAKER).add();
+            voltageLevel.getBusBreakerView().newBus().setId("B" + i).add();
+            voltageLevel.newGenerator().setId("G" + i).setBus("B" + i).setConnectableBus("B" + i)
+                    .setMinP(0).setMaxP(1000).setTargetP(100. + i % 50).setTargetV(400).setVoltageRegulatorOn(true).add();
+            voltageLevel.newLoad().setId("L" + i).setBus("B" + i).setConnectableBus("B" + i).setP0(50).setQ0(10).add();
+            if (i > 0) {
+                network.newLine().setId("LINE" + i)
+                        .setVoltageLevel1("VL" + (i - 1)).setBus1("B" + (i - 1)).setConnectableBus1("B" + (i - 1))
+                        .setVoltageLevel2("VL" + i).setBus2("B" + i).setConnectableBus2("B" + i)
+                        .setR(1).setX(10).setG1(0).setB1(0).setG2(0).setB2(0).add();
+            }
+        }
+        return network;
+    }
+
+    @Test
+    void compareFormats() throws IOException {
+        given(networkStoreService.getNetwork(eq(NETWORK_UUID), any(PreloadingStrategy.class))).willReturn(createLargeNetwork());
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("JSON", jsonConverter.getObjectMapper());
+        mappers.put("CBOR", cborConverter.getObjectMapper());
+        mappers.put("Smile", smileConverter.getObjectMapper());
+
+        for (ElementType elementType : List.of(ElementType.LINE, ElementType.GENERATOR)) {
+            List<ElementInfos> elementsInfos = networkMapService.getElementsInfos(NETWORK_UUID, null, List.of(), elementType, InfoTypeParameters.TAB, null);
+            for (Map.Entry<String, ObjectMapper> mapper : mappers.entrySet()) {
+                byte[] bytes = null;
+                for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                    bytes = mapper.getValue().writeValueAsBytes(elementsInfos);
+                    mapper.getValue().readTree(bytes);
+                }
+                long encodingNanos = 0;
+                long decodingNanos = 0;
+                for (int i = 0; i < ITERATIONS; i++) {
+                    long start = System.nanoTime();
+                    bytes = mapper.getValue().writeValueAsBytes(elementsInfos);
+                    encodingNanos += System.nanoTime() - start;
+                    start = System.nanoTime();
+                    assertThat(mapper.getValue().readTree(bytes).size()).isEqualTo(elementsInfos.size());
+                    decodingNanos += System.nanoTime() - start;
+                }
+                log.info("{} {} {}: {} bytes, encoding {} ms, decoding {} ms", elementsInfos.size(), elementType, mapper.getKey(),
+                        bytes.length, encodingNanos / ITERATIONS / 1_000_000., decodingNanos / ITERATIONS / 1_000_000.);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.InfoTypeParameters;
+import org.gridsuite.network.map.services.NetworkMapService;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the responses assembled from the cached fragments of the elements are the ones serialized without the
+ * fragment cache, and that the fragments are only reused for the same network instance.
+ */
+class ElementFragmentCacheTest extends AbstractCachedNetworkTest {
+    @Autowired
+    private NetworkMapService networkMapService;
+
+    @Override
+    protected Network createNetwork() {
+        return EurostagTutorialExample1Factory.createWithMoreGenerators(new NetworkFactoryImpl());
+    }
+
+    private String getGenerators(String... fields) throws Exception {
+        var request = post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                .queryParam("elementType", ElementType.GENERATOR.name())
+                .queryParam("infoType", ElementInfos.InfoType.TAB.name());
+        if (fields.length > 0) {
+            request.queryParam(InfoTypeParameters.QUERY_PARAM_FIELDS, String.join(",", fields));
+        }
+        return mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    @Test
+    void shouldAssembleElementsFromCachedFragments() throws Exception {
+        String expected = objectMapper.writeValueAsString(networkMapService.getElementsInfos(NETWORK_UUID, null, List.of(), ElementType.GENERATOR, InfoTypeParameters.TAB, null));
+
+        String response = getGenerators();
+        JSONAssert.assertEquals(expected, response, JSONCompareMode.STRICT);
+        long cachedFragments = elementFragmentCache.estimatedSize();
+        assertThat(cachedFragments).isEqualTo(objectMapper.readTree(response).size());
+
+        // the fragments are reused for the same network instance
+        assertThat(getGenerators()).isEqualTo(response);
+        assertThat(elementFragmentCache.estimatedSize()).isEqualTo(cachedFragments);
+
+        // the requested fields have their own fragments
+        InfoTypeParameters fieldsParameters = new InfoTypeParameters(ElementInfos.InfoType.TAB, null);
+        fieldsParameters.setFields(Set.of("targetP"));
+        String expectedFields = objectMapper.writer(SparseFieldsConfig.getFilterProvider(Set.of("targetP")))
+                .writeValueAsString(networkMapService.getElementsInfos(NETWORK_UUID, null, List.of(), ElementType.GENERATOR, fieldsParameters, null));
+        JSONAssert.assertEquals(expectedFields, getGenerators("targetP"), JSONCompareMode.STRICT);
+        assertThat(elementFragmentCache.estimatedSize()).isEqualTo(2 * cachedFragments);
+
+        // a network instance loaded again has a new revision, and new fragments
+        mvc.perform(delete("/v1/networks/{networkUuid}/cache", NETWORK_UUID)).andExpect(status().isOk());
+        JSONAssert.assertEquals(expected, getGenerators(), JSONCompareMode.STRICT);
+        assertThat(elementFragmentCache.estimatedSize()).isEqualTo(3 * cachedFragments);
+    }
+
+    @Test
+    void shouldAssembleAllElementsFromCachedFragments() throws Exception {
+        String expected = objectMapper.writeValueAsString(networkMapService.getAllElementsInfos(NETWORK_UUID, null, List.of(), List.of(), Map.of(), false));
+
+        for (int i = 0; i < 2; i++) {
+            String response = mvc.perform(post("/v1/networks/{networkUuid}/all", NETWORK_UUID).contentType(MediaType.APPLICATION_JSON).content("{}"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andReturn().getResponse().getContentAsString();
+            JSONAssert.assertEquals(expected, response, JSONCompareMode.STRICT);
+        }
+    }
+
+    @Test
+    void shouldNotUseFragmentsForOtherFormats() throws Exception {
+        mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam("elementType", ElementType.GENERATOR.name())
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+        assertThat(elementFragmentCache.estimatedSize()).isZero();
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map;
+
+import com.powsybl.network.store.client.PreloadingStrategy;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the equipments are located from the index built once per network variant.
+ */
+class EquipmentLocatorTest extends AbstractCachedNetworkTest {
+    @Test
+    void shouldLocateEquipments() throws Exception {
+        mvc.perform(get("/v1/networks/{networkUuid}/locate/{equipmentId}", NETWORK_UUID, "NHV1_NHV2_1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.type").value("LINE"))
+                .andExpect(jsonPath("$.voltageLevelIds[0]").value("VLHV1"))
+                .andExpect(jsonPath("$.voltageLevelIds[1]").value("VLHV2"))
+                .andExpect(jsonPath("$.substationIds.length()").value(2));
+        mvc.perform(post("/v1/networks/{networkUuid}/locate", NETWORK_UUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of("GEN", "UNKNOWN", "P2"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].type").value("GENERATOR"))
+                .andExpect(jsonPath("$[0].voltageLevelIds[0]").value("VLGEN"))
+                .andExpect(jsonPath("$[0].substationIds[0]").value("P1"))
+                .andExpect(jsonPath("$[1].type").value("SUBSTATION"))
+                .andExpect(jsonPath("$[1].voltageLevelIds.length()").value(2));
+        mvc.perform(get("/v1/networks/{networkUuid}/locate/{equipmentId}", NETWORK_UUID, "UNKNOWN"))
+                .andExpect(status().isNotFound());
+
+        // the endpoints resolving an equipment use the index too
+        mvc.perform(get("/v1/networks/{networkUuid}/voltage-levels/{voltageLevelId}/substation-id", NETWORK_UUID, "VLLOAD"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("P2"));
+        mvc.perform(get("/v1/networks/{networkUuid}/branch-or-3wt/{equipmentId}/voltage-level-id", NETWORK_UUID, "NGEN_NHV1")
+                        .queryParam("side", "TWO"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("VLHV1"));
+        verify(networkStoreService, times(1)).getNetwork(eq(NETWORK_UUID), any(PreloadingStrategy.class));
+
+        // the index is built again when the network changes
+        mvc.perform(delete("/v1/networks/{networkUuid}/cache", NETWORK_UUID)).andExpect(status().isOk());
+        mvc.perform(get("/v1/networks/{networkUuid}/locate/{equipmentId}", NETWORK_UUID, "LOAD"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.voltageLevelIds[0]").value("VLLOAD"));
+        verify(networkStoreService, times(2)).getNetwork(eq(NETWORK_UUID), any(PreloadingStrategy.class));
+    }
+
+    @Test
+    void shouldNotIndexNetworkForSingleLookups() throws Exception {
+        mvc.perform(get("/v1/networks/{networkUuid}/voltage-levels/{voltageLevelId}/substation-id", NETWORK_UUID, "VLLOAD"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("P2"));
+        mvc.perform(get("/v1/networks/{networkUuid}/branch-or-3wt/{equipmentId}/voltage-level-id", NETWORK_UUID, "NGEN_NHV1")
+                        .queryParam("side", "TWO"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("VLHV1"));
+        // the variant not being indexed yet, the equipments are read from the network loaded without its collections
+        verify(networkStoreService, never()).getNetwork(NETWORK_UUID, PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW);
+    }
+
+    @Test
+    void shouldReadElementInfosFromNetwork() throws Exception {
+        mvc.perform(get("/v1/networks/{networkUuid}/elements/{elementId}", NETWORK_UUID, "GEN")
+                        .queryParam("elementType", "GENERATOR")
+                        .queryParam("infoType", "TAB"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("GEN"));
+        // the network is not loaded with all its collections to build the index
+        verify(networkStoreService, never()).getNetwork(NETWORK_UUID, PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW);
+
+        // an element unknown to the index is still read from the network
+        mvc.perform(get("/v1/networks/{networkUuid}/locate/{equipmentId}", NETWORK_UUID, "GEN")).andExpect(status().isOk());
+        networkCache.read(NETWORK_UUID, PreloadingStrategy.NONE, null, network -> network.getVoltageLevel("VLLOAD").newLoad()
+                .setId("NEW_LOAD")
+                .setBus("NLOAD")
+                .setConnectableBus("NLOAD")
+                .setP0(10.0)
+                .setQ0(1.0)
+                .add());
+        mvc.perform(get("/v1/networks/{networkUuid}/elements/{elementId}", NETWORK_UUID, "NEW_LOAD")
+                        .queryParam("elementType", "LOAD")
+                        .queryParam("infoType", "TAB"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("NEW_LOAD"));
+        mvc.perform(get("/v1/networks/{networkUuid}/elements/{elementId}", NETWORK_UUID, "UNKNOWN")
+                        .queryParam("elementType", "LOAD")
+                        .queryParam("infoType", "TAB"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldIndexNetworkInstanceAgainWhenReloaded() throws Exception {
+        mvc.perform(get("/v1/networks/{networkUuid}/locate/{equipmentId}", NETWORK_UUID, "GEN")).andExpect(status().isOk());
+        // the index is keyed by the network instance, a new instance is indexed again even without network change event
+        networkCache.evictAll();
+        mvc.perform(get("/v1/networks/{networkUuid}/locate/{equipmentId}", NETWORK_UUID, "GEN")).andExpect(status().isOk());
+        mvc.perform(get("/v1/networks/{networkUuid}/locate/{equipmentId}", NETWORK_UUID, "LOAD")).andExpect(status().isOk());
+        verify(networkStoreService, times(2)).getNetwork(NETWORK_UUID, PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW);
+    }
+}
@@ -86,7 +86,7 @@ class ListHandlingControllerTest {
     void getAllSubstationsIds(final Optional<String> parameter) throws Exception {
         mvc.perform(requestWithOptionalSubstationId(post("/v1/networks/{networkUuid}/all", NETWORK_ID).contentType(MediaType.APPLICATION_JSON).content("{}"), parameter))
             .andExpect(status().is2xxSuccessful());
-        verify(networkMapService).getAllElementsInfos(eq(NETWORK_ID), isNull(), eq(Collections.emptyList()), eq(Map.of()));
+        verify(networkMapService).getAllElementsInfos(eq(NETWORK_ID), isNull(), eq(Collections.emptyList()), eq(Collections.emptyList()), eq(Map.of()), eq(false));
     }
 
     /** Case of {@code substationsIds} for {@link NetworkMapController#getElementsInfos(UUID, String, List, ElementType, InfoTypeParameters, Optional)} */
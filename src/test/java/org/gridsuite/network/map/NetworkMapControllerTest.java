@@ -6,7 +6,12 @@
  */
 package org.gridsuite.network.map;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.common.collect.ImmutableList;
 import com.google.common.io.ByteStreams;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
@@ -16,8 +21,19 @@ import com.powsybl.iidm.network.test.NetworkTest1Factory;
 import com.powsybl.network.store.client.NetworkStoreService;
 import com.powsybl.network.store.client.PreloadingStrategy;
 import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.pojo.Field;
 import org.gridsuite.network.map.dto.ElementInfos.InfoType;
+import org.gridsuite.network.map.dto.ElementLookup;
 import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.ElementsFilter;
+import org.gridsuite.network.map.dto.ElementsIdsQuery;
+import org.gridsuite.network.map.services.NetworkChangedEvent;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,28 +44,40 @@ import org.skyscreamer.jsonassert.JSONCompareMode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.util.LinkedMultiValueMap;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static org.gridsuite.network.map.BinaryFormatsConfig.APPLICATION_SMILE_VALUE;
 import static org.gridsuite.network.map.dto.InfoTypeParameters.QUERY_PARAM_BUS_ID_TO_ICC_VALUES;
+import static org.gridsuite.network.map.dto.InfoTypeParameters.QUERY_PARAM_FIELDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -76,6 +104,8 @@ public class NetworkMapControllerTest {
     public static final String QUERY_PARAM_INFO_TYPE = "infoType";
     public static final String QUERY_PARAM_SIDE = "side";
     public static final String QUERY_PARAM_ADDITIONAL_PARAMS = "optionalParameters";
+    public static final String QUERY_PARAM_STREAMING = "streaming";
+    public static final String QUERY_PARAM_FORMAT = "format";
     public static final String QUERY_FORMAT_ADDITIONAL_PARAMS = QUERY_PARAM_ADDITIONAL_PARAMS + "[%s]";
     public static final String QUERY_PARAM_DC_POWER_FACTOR = "dcPowerFactor";
     public static final String QUERY_PARAM_LOAD_OPERATIONAL_LIMIT_GROUPS = "loadOperationalLimitGroups";
@@ -93,6 +123,9 @@ public class NetworkMapControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private Network network;
 
     @SuppressWarnings("checkstyle:MethodLength")
@@ -1850,6 +1883,94 @@ public class NetworkMapControllerTest {
                 List.of("GEN", "GEN2"), resourceToString("/generators-tab-data.json"));
     }
 
+    @Test
+    void shouldIgnoreUnknownIdsAndOtherTypesElements() throws Exception {
+        mvc.perform(post("/v1/networks/{networkUuid}/elements-by-ids", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.LINE.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.LIST.name())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of("NHV1_NHV2_2", "UNKNOWN", "GEN", "NGEN_NHV1", "NHV1_NHV2_2"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("NHV1_NHV2_2"));
+    }
+
+    @Test
+    void shouldReturnElementsInfosByIdsInRequestedOrder() throws Exception {
+        mvc.perform(post("/v1/networks/{networkUuid}/elements-by-ids", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.GENERATOR.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.LIST.name())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of("GEN2", "UNKNOWN", "GEN", "GEN2"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value("GEN2"))
+                .andExpect(jsonPath("$[1].id").value("GEN"));
+    }
+
+    @Test
+    void shouldReturnElementsOfSeveralTypesByIds() throws Exception {
+        List<ElementLookup> elementLookups = List.of(
+                new ElementLookup("GEN", null, null),
+                new ElementLookup("NHV1_NHV2_1", ElementType.LINE, InfoType.LIST),
+                new ElementLookup("VLGEN", null, null),
+                new ElementLookup("UNKNOWN", null, null),
+                new ElementLookup("GEN", ElementType.LOAD, null),
+                new ElementLookup("GEN2", ElementType.GENERATOR, null));
+        mvc.perform(post("/v1/networks/{networkUuid}/elements-batch", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(elementLookups)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$.GENERATOR.length()").value(2))
+                .andExpect(jsonPath("$.GENERATOR[0].id").value("GEN"))
+                .andExpect(jsonPath("$.GENERATOR[0].targetP").isNumber())
+                .andExpect(jsonPath("$.GENERATOR[1].id").value("GEN2"))
+                .andExpect(jsonPath("$.LINE.length()").value(1))
+                .andExpect(jsonPath("$.LINE[0].id").value("NHV1_NHV2_1"))
+                .andExpect(jsonPath("$.LINE[0].p1").doesNotExist())
+                .andExpect(jsonPath("$.VOLTAGE_LEVEL[0].id").value("VLGEN"));
+    }
+
+    @Test
+    void shouldLocateEquipments() throws Exception {
+        mvc.perform(post("/v1/networks/{networkUuid}/locate", NETWORK_UUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of("NGEN_NHV1", "UNKNOWN", "VLHV2"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].type").value("TWO_WINDINGS_TRANSFORMER"))
+                .andExpect(jsonPath("$[0].voltageLevelIds[0]").value("VLGEN"))
+                .andExpect(jsonPath("$[0].voltageLevelIds[1]").value("VLHV1"))
+                .andExpect(jsonPath("$[0].substationIds[0]").value("P1"))
+                .andExpect(jsonPath("$[1].type").value("VOLTAGE_LEVEL"))
+                .andExpect(jsonPath("$[1].substationIds[0]").value("P2"));
+        mvc.perform(get("/v1/networks/{networkUuid}/locate/{equipmentId}", NETWORK_UUID, "UNKNOWN"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldQueryElementsIds() throws Exception {
+        ElementsIdsQuery query = new ElementsIdsQuery(
+                List.of(new ElementsFilter(List.of(ElementType.SUBSTATION), null, null, null),
+                        new ElementsFilter(List.of(ElementType.VOLTAGE_LEVEL), List.of("P2"), null, null)),
+                List.of(new ElementsFilter(List.of(ElementType.SUBSTATION), null, List.of(Country.FR), null)));
+        mvc.perform(post("/v1/networks/{networkUuid}/elements-ids/query", NETWORK_UUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(query)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.SUBSTATION.length()").value(1))
+                .andExpect(jsonPath("$.SUBSTATION[0]").value("P2"))
+                .andExpect(jsonPath("$.VOLTAGE_LEVEL.length()").value(2));
+        mvc.perform(post("/v1/networks/{networkUuid}/elements-ids/query/count", NETWORK_UUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(query)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.SUBSTATION").value(1))
+                .andExpect(jsonPath("$.VOLTAGE_LEVEL").value(2));
+    }
+
     @Test
     void shouldReturnBatteriesInfosByIds() throws Exception {
         succeedingTestForElementsInfosByIds(NETWORK_UUID, null, ElementType.BATTERY, InfoType.TAB,
@@ -2888,6 +3009,395 @@ public class NetworkMapControllerTest {
         succeedingTestForNominalVoltages(NETWORK_UUID, VARIANT_ID_2, List.of(400.0, 380.0, 225.0, 150.0, 24.0).toString());
     }
 
+    @Test
+    void shouldEvictNetworkFromCache() throws Exception {
+        mvc.perform(delete("/v1/networks/{networkUuid}/cache", NETWORK_UUID).queryParam(QUERY_PARAM_VARIANT_ID, VARIANT_ID))
+                .andExpect(status().isOk());
+        mvc.perform(delete("/v1/networks/{networkUuid}/cache", NETWORK_UUID))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldNotWarmupNetworkWithoutCache() throws Exception {
+        mvc.perform(post("/v1/networks/{networkUuid}/warmup", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_VARIANT_ID, VARIANT_ID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.GENERATOR.name(), ElementType.LOAD.name()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.networkUuid").value(NETWORK_UUID.toString()))
+                .andExpect(jsonPath("$.cached").value(false))
+                .andExpect(jsonPath("$.variants.length()").value(0));
+    }
+
+    @Test
+    void shouldReturnSelectedElementTypesOnly() throws Exception {
+        mvc.perform(post("/v1/networks/{networkUuid}/all", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.BRANCH.name(), ElementType.GENERATOR.name(), ElementType.LOAD.name())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(ElementType.LOAD.name(), Map.of(QUERY_PARAM_INFO_TYPE, InfoType.LIST.name())))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.branches").isArray())
+                .andExpect(jsonPath("$.generators[0].targetP").isNumber())
+                .andExpect(jsonPath("$.loads[0].id").exists())
+                .andExpect(jsonPath("$.loads[0].p0").doesNotExist())
+                .andExpect(jsonPath("$.lines").doesNotExist())
+                .andExpect(jsonPath("$.substations").doesNotExist())
+                .andExpect(jsonPath("$.buses").doesNotExist());
+
+        mvc.perform(post("/v1/networks/{networkUuid}/all", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.HVDC_LINE_LCC.name())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of())))
+                .andExpect(status().isBadRequest());
+        mvc.perform(post("/v1/networks/{networkUuid}/all", NETWORK_UUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(ElementType.LOAD.name(), Map.of(QUERY_PARAM_INFO_TYPE, "UNKNOWN")))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldStreamElementsInfos() throws Exception {
+        String expected = mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.GENERATOR.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String streamed = mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_STREAMING, "true")
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.GENERATOR.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+        JSONAssert.assertEquals(expected, streamed, JSONCompareMode.STRICT);
+
+        String ndjson = mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_STREAMING, "true")
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.GENERATOR.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name())
+                        .queryParam(QUERY_PARAM_FIELDS, "targetP")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        List<String> lines = ndjson.lines().toList();
+        assertEquals(objectMapper.readTree(expected).size(), lines.size());
+        for (String line : lines) {
+            assertEquals(Set.of("id", "targetP"), Set.copyOf(ImmutableList.copyOf(objectMapper.readTree(line).fieldNames())));
+        }
+
+        mvc.perform(post("/v1/networks/{networkUuid}/elements", NOT_FOUND_NETWORK_ID)
+                        .queryParam(QUERY_PARAM_STREAMING, "true")
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.GENERATOR.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldStreamAllElementsInfos() throws Exception {
+        String expected = mvc.perform(post("/v1/networks/{networkUuid}/all", NETWORK_UUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String streamed = mvc.perform(post("/v1/networks/{networkUuid}/all", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_STREAMING, "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JSONAssert.assertEquals(expected, streamed, JSONCompareMode.STRICT);
+
+        mvc.perform(post("/v1/networks/{networkUuid}/all", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_STREAMING, "true")
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.HVDC_LINE_LCC.name())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of())))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnColumnarElementsInfos() throws Exception {
+        String rows = mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.LINE.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String columnar = mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_FORMAT, "columnar")
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.LINE.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode rowsNode = objectMapper.readTree(rows);
+        JsonNode columnarNode = objectMapper.readTree(columnar);
+        assertEquals(rowsNode.size(), columnarNode.get("size").asInt());
+        for (int i = 0; i < rowsNode.size(); i++) {
+            int index = i;
+            JsonNode row = rowsNode.get(i);
+            columnarNode.get("columns").properties().forEach(column -> {
+                JsonNode value = column.getValue().get(index);
+                JsonNode dictionary = columnarNode.get("dictionaries").get(column.getKey());
+                JsonNode decodedValue = dictionary != null && !value.isNull() ? dictionary.get(value.asInt()) : value;
+                assertEquals(row.has(column.getKey()) ? row.get(column.getKey()) : NullNode.getInstance(), decodedValue, column.getKey());
+            });
+            row.fieldNames().forEachRemaining(field -> assertTrue(columnarNode.get("columns").has(field), field));
+        }
+
+        mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_FORMAT, "columnar")
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.LINE.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name())
+                        .queryParam(QUERY_PARAM_FIELDS, "voltageLevelId1,r"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns.id").isArray())
+                .andExpect(jsonPath("$.columns.voltageLevelId1").isArray())
+                .andExpect(jsonPath("$.columns.r").isArray())
+                .andExpect(jsonPath("$.columns.name").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnElementsInfosAsArrowStream() throws Exception {
+        JsonNode rows = objectMapper.readTree(mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.GENERATOR.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        byte[] arrowStream = mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.GENERATOR.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name())
+                        .queryParam(QUERY_PARAM_FIELDS, "targetP,voltageLevelId,voltageRegulatorOn")
+                        .accept(ArrowHttpMessageConverter.APPLICATION_ARROW_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ArrowHttpMessageConverter.APPLICATION_ARROW_STREAM))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(arrowStream), allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            assertEquals(Set.of("id", "voltageLevelId", "targetP", "voltageRegulatorOn"),
+                    root.getSchema().getFields().stream().map(Field::getName).collect(Collectors.toSet()));
+            int rowCount = 0;
+            while (reader.loadNextBatch()) {
+                Float8Vector targetP = (Float8Vector) root.getVector("targetP");
+                BitVector voltageRegulatorOn = (BitVector) root.getVector("voltageRegulatorOn");
+                for (int i = 0; i < root.getRowCount(); i++) {
+                    JsonNode row = rows.get(rowCount + i);
+                    assertEquals(row.get("id").asText(), root.getVector("id").getObject(i).toString());
+                    assertEquals(row.get("voltageLevelId").asText(), root.getVector("voltageLevelId").getObject(i).toString());
+                    assertEquals(row.get("targetP").asDouble(), targetP.get(i));
+                    assertEquals(row.get("voltageRegulatorOn").asBoolean(), voltageRegulatorOn.get(i) == 1);
+                }
+                rowCount += root.getRowCount();
+            }
+            assertEquals(rows.size(), rowCount);
+        }
+    }
+
+    @Test
+    void shouldReturnBinaryFormats() throws Exception {
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        String elements = mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.LINE.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        for (Map.Entry<MediaType, ObjectMapper> format : Map.of(MediaType.APPLICATION_CBOR, cborMapper, MediaType.parseMediaType(APPLICATION_SMILE_VALUE), smileMapper).entrySet()) {
+            byte[] content = mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                            .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.LINE.name())
+                            .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name())
+                            .accept(format.getKey()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(format.getKey()))
+                    .andReturn().getResponse().getContentAsByteArray();
+            JSONAssert.assertEquals(elements, objectMapper.writeValueAsString(format.getValue().readTree(content)), JSONCompareMode.STRICT);
+        }
+
+        String allElements = mvc.perform(post("/v1/networks/{networkUuid}/all", NETWORK_UUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        byte[] allContent = mvc.perform(post("/v1/networks/{networkUuid}/all", NETWORK_UUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of()))
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        JSONAssert.assertEquals(allElements, objectMapper.writeValueAsString(cborMapper.readTree(allContent)), JSONCompareMode.STRICT);
+
+        // the sparse fieldsets apply to the binary formats too
+        byte[] generators = mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.GENERATOR.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name())
+                        .queryParam(QUERY_PARAM_FIELDS, "targetP")
+                        .accept(MediaType.parseMediaType(APPLICATION_SMILE_VALUE)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        for (JsonNode generator : smileMapper.readTree(generators)) {
+            assertEquals(Set.of("id", "targetP"), Set.copyOf(ImmutableList.copyOf(generator.fieldNames())));
+        }
+    }
+
+    @Test
+    void shouldReturnNormalizedAllElementsInfos() throws Exception {
+        JsonNode allElements = objectMapper.readTree(mvc.perform(post("/v1/networks/{networkUuid}/all", NETWORK_UUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.voltageLevelsById").doesNotExist())
+                .andReturn().getResponse().getContentAsString());
+        JsonNode normalized = objectMapper.readTree(mvc.perform(post("/v1/networks/{networkUuid}/all", NETWORK_UUID)
+                        .queryParam("normalized", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lines[0].voltageLevelId1").isString())
+                .andExpect(jsonPath("$.lines[0].voltageLevelName1").doesNotExist())
+                .andExpect(jsonPath("$.lines[0].country1").doesNotExist())
+                .andExpect(jsonPath("$.generators[0].voltageLevelId").isString())
+                .andExpect(jsonPath("$.generators[0].country").doesNotExist())
+                .andReturn().getResponse().getContentAsString());
+
+        // the attributes removed from the elements are the ones of the lookup tables
+        JsonNode voltageLevels = normalized.get("voltageLevelsById");
+        JsonNode substations = normalized.get("substationsById");
+        for (int i = 0; i < allElements.get("lines").size(); i++) {
+            JsonNode line = allElements.get("lines").get(i);
+            JsonNode voltageLevel1 = voltageLevels.get(normalized.get("lines").get(i).get("voltageLevelId1").asText());
+            assertEquals(line.get("voltageLevelName1"), voltageLevel1.get("name"));
+            assertEquals(line.get("country1"), substations.get(voltageLevel1.get("substationId").asText()).get("country"));
+        }
+        for (JsonNode generator : normalized.get("generators")) {
+            assertTrue(voltageLevels.has(generator.get("voltageLevelId").asText()));
+        }
+        // the country of a substation is its own attribute
+        assertEquals(allElements.get("substations"), normalized.get("substations"));
+    }
+
+    @Test
+    void shouldReturnElementsDelta() throws Exception {
+        String response = mvc.perform(post("/v1/networks/{networkUuid}/elements-delta", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.LOAD.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.full").value(true))
+                .andExpect(jsonPath("$.added.length()").value(3))
+                .andExpect(jsonPath("$.modified.length()").value(0))
+                .andExpect(jsonPath("$.removed.length()").value(0))
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(response).get("token").asText();
+
+        network.getLoad("LOAD").setP0(123.0);
+        network.getLoad("LOAD_ID").remove();
+        response = mvc.perform(post("/v1/networks/{networkUuid}/elements-delta", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.LOAD.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name())
+                        .queryParam("token", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.full").value(false))
+                .andExpect(jsonPath("$.added.length()").value(0))
+                .andExpect(jsonPath("$.modified.length()").value(1))
+                .andExpect(jsonPath("$.modified[0].id").value("LOAD"))
+                .andExpect(jsonPath("$.modified[0].p0").value(123.0))
+                .andExpect(jsonPath("$.removed[0]").value("LOAD_ID"))
+                .andReturn().getResponse().getContentAsString();
+        String nextToken = objectMapper.readTree(response).get("token").asText();
+        assertNotEquals(token, nextToken);
+
+        // the snapshot of a token is replaced by the snapshot of the next request
+        mvc.perform(post("/v1/networks/{networkUuid}/elements-delta", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.LOAD.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name())
+                        .queryParam("token", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.full").value(true));
+
+        // a token of a request with other parameters is unknown
+        mvc.perform(post("/v1/networks/{networkUuid}/elements-delta", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.GENERATOR.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name())
+                        .queryParam("token", nextToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.full").value(true));
+    }
+
+    private static void awaitContent(MvcResult result, String expectedContent) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!result.getResponse().getContentAsString().contains(expectedContent)) {
+            assertTrue(System.currentTimeMillis() < deadline, "Content not received: " + expectedContent);
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void shouldPushElementsChanges() throws Exception {
+        MvcResult result = mvc.perform(get("/v1/networks/{networkUuid}/elements-changes", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.LOAD.name(), ElementType.GENERATOR.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // all the elements are sent first
+        awaitContent(result, "event:GENERATOR");
+        assertTrue(result.getResponse().getContentAsString().contains("event:LOAD"));
+
+        network.getLoad("LOAD_ID").remove();
+        eventPublisher.publishEvent(new NetworkChangedEvent(NETWORK_UUID, null));
+        awaitContent(result, "\"removed\":[\"LOAD_ID\"]");
+        // the types without changes are not sent again
+        String content = result.getResponse().getContentAsString();
+        assertEquals(content.indexOf("event:GENERATOR"), content.lastIndexOf("event:GENERATOR"));
+
+        // the subscription is closed by the client, its emitter being completed
+        result.getRequest().getAsyncContext().complete();
+        assertFalse(result.getRequest().isAsyncStarted());
+    }
+
+    @Test
+    void shouldReturnRequestedFieldsOnly() throws Exception {
+        mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.GENERATOR.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name())
+                        .queryParam(QUERY_PARAM_FIELDS, "targetP,voltageLevelId"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[0].targetP").isNumber())
+                .andExpect(jsonPath("$[0].voltageLevelId").isString())
+                .andExpect(jsonPath("$[0].name").doesNotExist())
+                .andExpect(jsonPath("$[0].minP").doesNotExist())
+                .andExpect(jsonPath("$[0].properties").doesNotExist())
+                .andExpect(jsonPath("$[0].activePowerControl").doesNotExist());
+
+        // the parameter can be repeated
+        mvc.perform(post("/v1/networks/{networkUuid}/elements-by-ids", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.LINE.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name())
+                        .queryParam(QUERY_PARAM_FIELDS, "p1", "p2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of("NHV1_NHV2_1"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("NHV1_NHV2_1"))
+                .andExpect(jsonPath("$[0].p1").isNumber())
+                .andExpect(jsonPath("$[0].p2").isNumber())
+                .andExpect(jsonPath("$[0].q1").doesNotExist())
+                .andExpect(jsonPath("$[0].selectedOperationalLimitsGroup1").doesNotExist());
+
+        // the fields of the elements contained in the returned ones are all written
+        mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam(QUERY_PARAM_ELEMENT_TYPE, ElementType.SUBSTATION.name())
+                        .queryParam(QUERY_PARAM_INFO_TYPE, InfoType.TAB.name())
+                        .queryParam(QUERY_PARAM_FIELDS, "voltageLevels"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].country").doesNotExist())
+                .andExpect(jsonPath("$[0].voltageLevels[0].id").exists())
+                .andExpect(jsonPath("$[0].voltageLevels[0].nominalV").isNumber());
+    }
+
     @Test
     void shouldReturnBusesSectionTabData() throws Exception {
         succeedingTestForElementsInfos(NETWORK_2_UUID, null, ElementType.BUS, InfoType.TAB, null, resourceToString("/buses-tab-data.json"));
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map;
+
+import org.gridsuite.network.map.dto.ElementType;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the responses computed from a cached network are not sent again while the network is not evicted.
+ */
+class NetworkRevisionETagsTest extends AbstractCachedNetworkTest {
+    private String getETag(MockHttpServletRequestBuilder request) throws Exception {
+        String etag = mvc.perform(request).andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+        return etag;
+    }
+
+    @Test
+    void shouldNotSendUnchangedResponses() throws Exception {
+        // no ETag while the network is not cached
+        mvc.perform(get("/v1/networks/{networkUuid}/countries", NETWORK_UUID))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        String etag = getETag(get("/v1/networks/{networkUuid}/countries", NETWORK_UUID));
+        mvc.perform(get("/v1/networks/{networkUuid}/countries", NETWORK_UUID).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        // each request has its own ETag
+        assertThat(getETag(get("/v1/networks/{networkUuid}/nominal-voltages", NETWORK_UUID))).isNotEqualTo(etag);
+        assertThat(getETag(get("/v1/networks/{networkUuid}/countries", NETWORK_UUID).queryParam("variantId", "InitialState"))).isNotEqualTo(etag);
+
+        // the ETags change when the network is loaded again, whatever the cause of its removal from the cache
+        mvc.perform(delete("/v1/networks/{networkUuid}/cache", NETWORK_UUID)).andExpect(status().isOk());
+        mvc.perform(get("/v1/networks/{networkUuid}/countries", NETWORK_UUID).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        assertThat(getETag(get("/v1/networks/{networkUuid}/countries", NETWORK_UUID))).isNotEqualTo(etag);
+        etag = getETag(get("/v1/networks/{networkUuid}/countries", NETWORK_UUID));
+        networkCache.evictAll();
+        mvc.perform(get("/v1/networks/{networkUuid}/countries", NETWORK_UUID)).andExpect(status().isOk());
+        mvc.perform(get("/v1/networks/{networkUuid}/countries", NETWORK_UUID).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    void shouldNotSendUnchangedElements() throws Exception {
+        MockHttpServletRequestBuilder allRequest = post("/v1/networks/{networkUuid}/all", NETWORK_UUID)
+                .contentType(MediaType.APPLICATION_JSON).content("{}");
+        mvc.perform(allRequest).andExpect(status().isOk());
+        String etag = getETag(allRequest);
+        mvc.perform(post("/v1/networks/{networkUuid}/all", NETWORK_UUID).contentType(MediaType.APPLICATION_JSON).content("{}")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag))
+                .andExpect(status().isNotModified());
+        // the body of the request is part of the ETag
+        assertThat(getETag(post("/v1/networks/{networkUuid}/all", NETWORK_UUID).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"LINE\":{\"infoType\":\"MAP\"}}"))).isNotEqualTo(etag);
+
+        MockHttpServletRequestBuilder elementsRequest = post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                .queryParam("elementType", ElementType.LINE.name())
+                .queryParam("infoType", "TAB");
+        String elementsETag = getETag(elementsRequest);
+        mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                        .queryParam("elementType", ElementType.LINE.name())
+                        .queryParam("infoType", "TAB")
+                        .header(HttpHeaders.IF_NONE_MATCH, elementsETag))
+                .andExpect(status().isNotModified());
+        // the ETag of another format is another one
+        assertThat(getETag(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                .queryParam("elementType", ElementType.LINE.name())
+                .queryParam("infoType", "TAB")
+                .accept(MediaType.APPLICATION_CBOR))).isNotEqualTo(elementsETag);
+    }
+}
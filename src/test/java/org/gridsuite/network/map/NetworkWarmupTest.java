@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.gridsuite.network.map.dto.ElementType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the warmed up network variants are kept in the network cache.
+ */
+class NetworkWarmupTest extends AbstractCachedNetworkTest {
+    private static final UUID NOT_FOUND_NETWORK_UUID = UUID.fromString("611f5e2b-5ccb-4e74-8ab4-23a8e3e1bf7a");
+    private static final String VARIANT_ID = "variant_1";
+
+    @Override
+    protected Network createNetwork() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, VARIANT_ID);
+        return network;
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(networkStoreService.getNetwork(eq(NOT_FOUND_NETWORK_UUID), any(PreloadingStrategy.class)))
+                .willThrow(new PowsyblException("Network " + NOT_FOUND_NETWORK_UUID + " not found"));
+    }
+
+    @Test
+    void shouldWarmupNetwork() throws Exception {
+        mvc.perform(post("/v1/networks/{networkUuid}/warmup", NETWORK_UUID)
+                        .queryParam("variantId", VARIANT_ID)
+                        .queryParam("elementType", ElementType.GENERATOR.name(), ElementType.LOAD.name()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.networkUuid").value(NETWORK_UUID.toString()))
+                .andExpect(jsonPath("$.cached").value(true))
+                .andExpect(jsonPath("$.variants.length()").value(1))
+                .andExpect(jsonPath("$.variants[0].variantId").value(VARIANT_ID))
+                .andExpect(jsonPath("$.variants[0].elementTypesMillis.length()").value(2))
+                .andExpect(jsonPath("$.variants[0].elementTypesMillis.GENERATOR").isNumber())
+                .andExpect(jsonPath("$.variants[0].elementTypesMillis.LOAD").isNumber());
+
+        // without parameters, the initial variant is warmed up with all the element types of the map and spreadsheet views
+        mvc.perform(post("/v1/networks/{networkUuid}/warmup", NETWORK_UUID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.variants[0].variantId").value(VariantManagerConstants.INITIAL_VARIANT_ID))
+                .andExpect(jsonPath("$.variants[0].elementTypesMillis.length()").value(18));
+
+        // the warmed up variants are then read from the cache
+        mvc.perform(post("/v1/networks/{networkUuid}/warmup", NETWORK_UUID).queryParam("variantId", VARIANT_ID))
+                .andExpect(status().isOk());
+        verify(networkStoreService, times(2)).getNetwork(NETWORK_UUID, PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW);
+
+        mvc.perform(post("/v1/networks/{networkUuid}/warmup", NETWORK_UUID).queryParam("variantId", "variant_notFound"))
+                .andExpect(status().isNotFound());
+        mvc.perform(post("/v1/networks/{networkUuid}/warmup", NOT_FOUND_NETWORK_UUID))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map;
+
+import com.powsybl.network.store.client.PreloadingStrategy;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.InfoTypeParameters;
+import org.gridsuite.network.map.services.NetworkMapService;
+import org.gridsuite.network.map.services.ResponseCache;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the responses of the map elements requests are served from the response cache as long as the same network instance is cached.
+ */
+class ResponseCacheTest extends AbstractCachedNetworkTest {
+    private static final InfoTypeParameters MAP = new InfoTypeParameters(ElementInfos.InfoType.MAP, null);
+
+    @Autowired
+    private NetworkMapService networkMapService;
+
+    private static MockHttpServletRequestBuilder getLines() {
+        return post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                .queryParam("elementType", ElementType.LINE.name())
+                .queryParam("infoType", ElementInfos.InfoType.MAP.name());
+    }
+
+    @Test
+    void shouldServeCachedResponses() throws Exception {
+        String expected = objectMapper.writeValueAsString(networkMapService.getElementsInfos(NETWORK_UUID, null, List.of(), ElementType.LINE, MAP, null));
+        String response = mvc.perform(getLines()).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        JSONAssert.assertEquals(expected, response, JSONCompareMode.STRICT);
+
+        // the responses are served from the response cache as long as the same network instance is cached
+        setLineActivePower(1234.5);
+        assertThat(mvc.perform(getLines()).andExpect(status().isOk()).andReturn().getResponse().getContentAsString()).isEqualTo(response);
+        verify(networkStoreService, times(1)).getNetwork(eq(NETWORK_UUID), any(PreloadingStrategy.class));
+
+        // the responses are evicted with their network
+        mvc.perform(delete("/v1/networks/{networkUuid}/cache", NETWORK_UUID)).andExpect(status().isOk());
+        assertThat(mvc.perform(getLines()).andExpect(status().isOk()).andReturn().getResponse().getContentAsString()).isEqualTo(response);
+        verify(networkStoreService, times(2)).getNetwork(eq(NETWORK_UUID), any(PreloadingStrategy.class));
+    }
+
+    @Test
+    void shouldNotServeResponsesOfPreviousNetworkInstances() throws Exception {
+        networkCache.read(NETWORK_UUID, PreloadingStrategy.COLLECTION, null, network -> network);
+        String response = mvc.perform(getLines()).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+        // a network removed from the cache without being evicted through the API (expired for example) is loaded again
+        networkCache.evictAll();
+        networkCache.read(NETWORK_UUID, PreloadingStrategy.COLLECTION, null, network -> network);
+        setLineActivePower(1234.5);
+        assertThat(mvc.perform(getLines()).andExpect(status().isOk()).andReturn().getResponse().getContentAsString())
+                .isNotEqualTo(response)
+                .contains("1234.5");
+    }
+
+    private void setLineActivePower(double p) {
+        networkCache.read(NETWORK_UUID, PreloadingStrategy.NONE, null, network -> network.getLine("NHV1_NHV2_1").getTerminal1().setP(p));
+    }
+
+    @Test
+    void shouldServeCompressedResponses() throws Exception {
+        String response = mvc.perform(getLines()).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+        byte[] compressed = mvc.perform(getLines().header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(response);
+        }
+
+        mvc.perform(getLines().header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void shouldNotCacheOtherInfoTypes() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(post("/v1/networks/{networkUuid}/elements", NETWORK_UUID)
+                            .queryParam("elementType", ElementType.LINE.name())
+                            .queryParam("infoType", ElementInfos.InfoType.TAB.name()))
+                    .andExpect(status().isOk());
+            networkCache.evictAll();
+        }
+        verify(networkStoreService, times(2)).getNetwork(eq(NETWORK_UUID), any(PreloadingStrategy.class));
+    }
+
+    private ResponseCache.CachedResponse getLinesResponse(Supplier<byte[]> bodySupplier) {
+        return responseCache.getElementsResponse(NETWORK_UUID, null, List.of(), ElementType.LINE, MAP, null, bodySupplier);
+    }
+
+    @Test
+    void shouldComputeIdenticalResponsesOnce() throws Exception {
+        networkCache.read(NETWORK_UUID, PreloadingStrategy.COLLECTION, null, network -> network);
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch computed = new CountDownLatch(1);
+        Supplier<byte[]> bodySupplier = () -> {
+            computations.incrementAndGet();
+            computing.countDown();
+            try {
+                assertThat(computed.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return "[]".getBytes(StandardCharsets.UTF_8);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseCache.CachedResponse> first = executor.submit(() -> getLinesResponse(bodySupplier));
+            assertThat(computing.await(10, TimeUnit.SECONDS)).isTrue();
+            Future<ResponseCache.CachedResponse> second = executor.submit(() -> getLinesResponse(bodySupplier));
+            computed.countDown();
+            assertThat(second.get(10, TimeUnit.SECONDS)).isSameAs(first.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    void shouldNotCacheFailedResponses() {
+        networkCache.read(NETWORK_UUID, PreloadingStrategy.COLLECTION, null, network -> network);
+        assertThatThrownBy(() -> getLinesResponse(() -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+
+        byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+        assertThat(getLinesResponse(() -> body).body()).isSameAs(body);
+    }
+}
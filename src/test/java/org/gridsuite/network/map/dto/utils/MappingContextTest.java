@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.dto.utils;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.assertj.core.api.WithAssertions;
+import org.gridsuite.network.map.dto.utils.MappingContext.VoltageLevelAttributes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class MappingContextTest implements WithAssertions {
+    private Network network;
+
+    @BeforeEach
+    void setUp() {
+        network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        network.getVoltageLevel("VLGEN").setProperty("region", "north");
+        network.getSubstation("P1").setProperty("owner", "rte");
+    }
+
+    @Test
+    void shouldComputeAttributes() {
+        VoltageLevelAttributes attributes = MappingContext.voltageLevel(network.getVoltageLevel("VLGEN"));
+        assertThat(attributes.id()).isEqualTo("VLGEN");
+        assertThat(attributes.nominalV()).isEqualTo(24.);
+        assertThat(attributes.properties()).isEqualTo(Map.of("region", "north"));
+        assertThat(attributes.substationId()).isEqualTo("P1");
+        assertThat(attributes.country()).isEqualTo(Country.FR);
+        assertThat(attributes.substationProperties()).isEqualTo(Map.of("owner", "rte"));
+
+        VoltageLevelAttributes attributesWithoutProperties = MappingContext.voltageLevel(network.getVoltageLevel("VLHV1"));
+        assertThat(attributesWithoutProperties.properties()).isNull();
+        assertThat(MappingContext.substation(null)).isNull();
+    }
+
+    @Test
+    void shouldComputeAttributesOnceWithinContext() {
+        VoltageLevel voltageLevel = network.getVoltageLevel("VLGEN");
+        MappingContext.run(() -> {
+            VoltageLevelAttributes attributes = MappingContext.voltageLevel(voltageLevel);
+            assertThat(MappingContext.voltageLevel(voltageLevel)).isSameAs(attributes);
+            // the substation attributes are shared by its voltage levels
+            assertThat(MappingContext.voltageLevel(network.getVoltageLevel("VLHV1")).substation()).isSameAs(attributes.substation());
+            assertThat(MappingContext.substation(network.getSubstation("P1"))).isSameAs(attributes.substation());
+            // a nested run reuses the current context
+            MappingContext.run(() -> assertThat(MappingContext.voltageLevel(voltageLevel)).isSameAs(attributes));
+            return null;
+        });
+    }
+
+    @Test
+    void shouldComputeAttributesOnEachCallOutOfContext() {
+        VoltageLevel voltageLevel = network.getVoltageLevel("VLGEN");
+        VoltageLevelAttributes attributes = MappingContext.run(() -> MappingContext.voltageLevel(voltageLevel));
+
+        // the context doesn't outlive the run, so changes made between requests are seen
+        voltageLevel.setProperty("region", "south");
+        assertThat(MappingContext.voltageLevel(voltageLevel)).isNotSameAs(attributes)
+                .extracting(VoltageLevelAttributes::properties).isEqualTo(Map.of("region", "south"));
+        assertThat(MappingContext.voltageLevel(voltageLevel)).isNotSameAs(MappingContext.voltageLevel(voltageLevel));
+    }
+}
@@ -0,0 +1,350 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NetworkCacheTest implements WithAssertions {
+    private static final UUID NETWORK_UUID = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+    private static final String VARIANT_ID = "variant_1";
+
+    @Mock
+    private NetworkStoreService networkStoreService;
+
+    private NetworkCache networkCache;
+
+    @BeforeEach
+    void setUp() {
+        networkCache = new NetworkCache(networkStoreService, true, 10, Duration.ofMinutes(10), Duration.ofHours(1));
+    }
+
+    private static Network createNetwork() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, VARIANT_ID);
+        return network;
+    }
+
+    private Network read(PreloadingStrategy strategy, String variantId) {
+        return networkCache.read(NETWORK_UUID, strategy, variantId, Function.identity());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void shouldLoadNetworkOnlyOnce() {
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.COLLECTION)).willAnswer(invocation -> createNetwork());
+
+        Network network = read(PreloadingStrategy.COLLECTION, null);
+        assertThat(read(PreloadingStrategy.COLLECTION, null)).isSameAs(network);
+        // a network preloaded with collections can also serve requests that don't need any preloading
+        assertThat(read(PreloadingStrategy.NONE, null)).isSameAs(network);
+        verify(networkStoreService, times(1)).getNetwork(any(UUID.class), any(PreloadingStrategy.class));
+    }
+
+    @Test
+    void shouldReloadNetworkForStrongerPreloadingStrategy() {
+        given(networkStoreService.getNetwork(eq(NETWORK_UUID), any(PreloadingStrategy.class))).willAnswer(invocation -> createNetwork());
+
+        Network network = read(PreloadingStrategy.NONE, null);
+        Network preloadedNetwork = read(PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW, null);
+        assertThat(preloadedNetwork).isNotSameAs(network);
+        assertThat(read(PreloadingStrategy.COLLECTION, null)).isSameAs(preloadedNetwork);
+        verify(networkStoreService).getNetwork(NETWORK_UUID, PreloadingStrategy.NONE);
+        verify(networkStoreService).getNetwork(NETWORK_UUID, PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW);
+    }
+
+    @Test
+    void shouldGiveLoadedStrategyToReader() {
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW)).willAnswer(invocation -> createNetwork());
+        read(PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW, null);
+
+        assertThat(networkCache.readWithStrategy(NETWORK_UUID, PreloadingStrategy.NONE, null, (network, loadedStrategy) -> loadedStrategy))
+                .isEqualTo(PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW);
+    }
+
+    @Test
+    void shouldCacheEachVariantSeparately() {
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.NONE)).willAnswer(invocation -> createNetwork());
+
+        Network initialNetwork = read(PreloadingStrategy.NONE, null);
+        Network variantNetwork = read(PreloadingStrategy.NONE, VARIANT_ID);
+        assertThat(variantNetwork).isNotSameAs(initialNetwork);
+        assertThat(initialNetwork.getVariantManager().getWorkingVariantId()).isEqualTo(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertThat(variantNetwork.getVariantManager().getWorkingVariantId()).isEqualTo(VARIANT_ID);
+    }
+
+    @Test
+    void shouldReadDifferentVariantsInParallel() throws Exception {
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.NONE)).willAnswer(invocation -> createNetwork());
+        read(PreloadingStrategy.NONE, null);
+        read(PreloadingStrategy.NONE, VARIANT_ID);
+
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch readReleased = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> blockedRead = executorService.submit(() -> networkCache.read(NETWORK_UUID, PreloadingStrategy.NONE, null, network -> {
+                readStarted.countDown();
+                await(readReleased);
+                return network.getVariantManager().getWorkingVariantId();
+            }));
+            assertThat(readStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            // the other variant is not blocked by the read in progress on the initial variant
+            Future<String> otherRead = executorService.submit(() -> networkCache.read(NETWORK_UUID, PreloadingStrategy.NONE, VARIANT_ID,
+                network -> network.getVariantManager().getWorkingVariantId()));
+            assertThat(otherRead.get(10, TimeUnit.SECONDS)).isEqualTo(VARIANT_ID);
+            assertThat(blockedRead).isNotDone();
+
+            readReleased.countDown();
+            assertThat(blockedRead.get(10, TimeUnit.SECONDS)).isEqualTo(VariantManagerConstants.INITIAL_VARIANT_ID);
+        } finally {
+            readReleased.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotLockNetworkBetweenSteps() throws Exception {
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.NONE)).willAnswer(invocation -> createNetwork());
+        Network network = read(PreloadingStrategy.NONE, null);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            List<Network> readNetworks = networkCache.readInSteps(NETWORK_UUID, PreloadingStrategy.NONE, null, reads -> {
+                Network firstStepNetwork = reads.read((readNetwork, loadedStrategy, revision) -> readNetwork);
+                // another request reads the same instance between the steps
+                Future<Network> otherRead = executorService.submit(() -> read(PreloadingStrategy.NONE, null));
+                try {
+                    assertThat(otherRead.get(10, TimeUnit.SECONDS)).isSameAs(network);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                return List.of(firstStepNetwork, reads.read((readNetwork, loadedStrategy, revision) -> readNetwork));
+            });
+            assertThat(readNetworks).containsExactly(network, network);
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(networkStoreService, times(1)).getNetwork(NETWORK_UUID, PreloadingStrategy.NONE);
+    }
+
+    @Test
+    void shouldRestoreVariantSwitchedByReader() {
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.NONE)).willAnswer(invocation -> createNetwork());
+
+        networkCache.read(NETWORK_UUID, PreloadingStrategy.NONE, VARIANT_ID, network -> {
+            network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+            return null;
+        });
+        assertThat(read(PreloadingStrategy.NONE, VARIANT_ID).getVariantManager().getWorkingVariantId()).isEqualTo(VARIANT_ID);
+    }
+
+    @Test
+    void shouldShareInitialVariantWithAndWithoutVariantId() {
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.NONE)).willAnswer(invocation -> createNetwork());
+
+        assertThat(read(PreloadingStrategy.NONE, VariantManagerConstants.INITIAL_VARIANT_ID)).isSameAs(read(PreloadingStrategy.NONE, null));
+        verify(networkStoreService, times(1)).getNetwork(NETWORK_UUID, PreloadingStrategy.NONE);
+    }
+
+    @Test
+    void shouldReloadEvictedNetwork() {
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.NONE)).willAnswer(invocation -> createNetwork());
+
+        Network initialNetwork = read(PreloadingStrategy.NONE, null);
+        Network variantNetwork = read(PreloadingStrategy.NONE, VARIANT_ID);
+
+        networkCache.evict(NETWORK_UUID, VARIANT_ID);
+        assertThat(read(PreloadingStrategy.NONE, null)).isSameAs(initialNetwork);
+        assertThat(read(PreloadingStrategy.NONE, VARIANT_ID)).isNotSameAs(variantNetwork);
+
+        networkCache.evict(NETWORK_UUID, null);
+        assertThat(read(PreloadingStrategy.NONE, null)).isNotSameAs(initialNetwork);
+        verify(networkStoreService, times(4)).getNetwork(NETWORK_UUID, PreloadingStrategy.NONE);
+    }
+
+    @Test
+    void shouldChangeCachedRevisionWhenReloaded() {
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.NONE)).willAnswer(invocation -> createNetwork());
+        assertThat(networkCache.getCachedRevision(NETWORK_UUID, null)).isEmpty();
+
+        long revision = networkCache.readWithRevision(NETWORK_UUID, PreloadingStrategy.NONE, null, (network, loadedStrategy, readRevision) -> readRevision);
+        assertThat(networkCache.getCachedRevision(NETWORK_UUID, null)).hasValue(revision);
+        assertThat(networkCache.getCachedRevision(NETWORK_UUID, VariantManagerConstants.INITIAL_VARIANT_ID)).hasValue(revision);
+        assertThat(networkCache.getCachedRevision(NETWORK_UUID, VARIANT_ID)).isEmpty();
+        read(PreloadingStrategy.NONE, null);
+        assertThat(networkCache.getCachedRevision(NETWORK_UUID, null)).hasValue(revision);
+
+        networkCache.evict(NETWORK_UUID, null);
+        assertThat(networkCache.getCachedRevision(NETWORK_UUID, null)).isEmpty();
+        read(PreloadingStrategy.NONE, null);
+        assertThat(networkCache.getCachedRevision(NETWORK_UUID, null)).isPresent();
+        assertThat(networkCache.getCachedRevision(NETWORK_UUID, null).getAsLong()).isNotEqualTo(revision);
+
+        // an expired variant has no revision either
+        NetworkCache expiringNetworkCache = new NetworkCache(networkStoreService, true, 10, Duration.ofMinutes(10), Duration.ofNanos(1));
+        expiringNetworkCache.read(NETWORK_UUID, PreloadingStrategy.NONE, null, Function.identity());
+        assertThat(expiringNetworkCache.getCachedRevision(NETWORK_UUID, null)).isEmpty();
+        assertThat(new NetworkCache(networkStoreService, false, 10, Duration.ofMinutes(10), Duration.ofHours(1)).getCachedRevision(NETWORK_UUID, null)).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheNotFoundNetworkOrVariant() {
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.NONE))
+                .willThrow(new PowsyblException("Network " + NETWORK_UUID + " not found"))
+                .willAnswer(invocation -> createNetwork());
+
+        assertThatThrownBy(() -> read(PreloadingStrategy.NONE, null))
+                .isInstanceOfSatisfying(ResponseStatusException.class, e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        assertThatThrownBy(() -> read(PreloadingStrategy.NONE, "variant_notFound"))
+                .isInstanceOfSatisfying(ResponseStatusException.class, e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        assertThat(read(PreloadingStrategy.NONE, null)).isNotNull();
+    }
+
+    @Test
+    void shouldLoadNetworkEachTimeWhenDisabled() {
+        networkCache = new NetworkCache(networkStoreService, false, 10, Duration.ofMinutes(10), Duration.ofHours(1));
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.NONE)).willAnswer(invocation -> createNetwork());
+
+        assertThat(read(PreloadingStrategy.NONE, null)).isNotSameAs(read(PreloadingStrategy.NONE, null));
+        verify(networkStoreService, times(2)).getNetwork(NETWORK_UUID, PreloadingStrategy.NONE);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentLoads() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.COLLECTION)).willAnswer(invocation -> {
+            loadStarted.countDown();
+            assertThat(loadReleased.await(10, TimeUnit.SECONDS)).isTrue();
+            return createNetwork();
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Network>> futures = new ArrayList<>();
+            futures.add(executorService.submit(() -> read(PreloadingStrategy.COLLECTION, VARIANT_ID)));
+            assertThat(loadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                futures.add(executorService.submit(() -> read(PreloadingStrategy.COLLECTION, VARIANT_ID)));
+            }
+            // give the other requests the time to join the load in progress
+            Thread.sleep(200);
+            loadReleased.countDown();
+
+            Network network = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<Network> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(network);
+            }
+            assertThat(network.getVariantManager().getWorkingVariantId()).isEqualTo(VARIANT_ID);
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(networkStoreService, times(1)).getNetwork(NETWORK_UUID, PreloadingStrategy.COLLECTION);
+    }
+
+    @Test
+    void shouldNotCoalesceLoadsWhenDisabled() throws Exception {
+        networkCache = new NetworkCache(networkStoreService, false, 10, Duration.ofMinutes(10), Duration.ofHours(1));
+        CountDownLatch loadsStarted = new CountDownLatch(2);
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.COLLECTION)).willAnswer(invocation -> {
+            loadsStarted.countDown();
+            // both requests load the network at the same time
+            assertThat(loadsStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            return createNetwork();
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Network> first = executorService.submit(() -> read(PreloadingStrategy.COLLECTION, null));
+            Future<Network> second = executorService.submit(() -> read(PreloadingStrategy.COLLECTION, null));
+            // each request reads its own instance
+            assertThat(first.get(10, TimeUnit.SECONDS)).isNotSameAs(second.get(10, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(networkStoreService, times(2)).getNetwork(NETWORK_UUID, PreloadingStrategy.COLLECTION);
+    }
+
+    @Test
+    void shouldNotCacheNetworkEvictedWhileLoading() {
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.NONE)).willAnswer(invocation -> {
+            networkCache.evict(NETWORK_UUID, null);
+            return createNetwork();
+        }).willAnswer(invocation -> createNetwork());
+
+        Network network = read(PreloadingStrategy.NONE, null);
+        assertThat(read(PreloadingStrategy.NONE, null)).isNotSameAs(network);
+        verify(networkStoreService, times(2)).getNetwork(NETWORK_UUID, PreloadingStrategy.NONE);
+    }
+
+    @Test
+    void shouldShareLoadFailureWithConcurrentRequests() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.NONE)).willAnswer(invocation -> {
+            loadStarted.countDown();
+            assertThat(loadReleased.await(10, TimeUnit.SECONDS)).isTrue();
+            throw new PowsyblException("Network " + NETWORK_UUID + " not found");
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Network> first = executorService.submit(() -> read(PreloadingStrategy.NONE, null));
+            assertThat(loadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            Future<Network> second = executorService.submit(() -> read(PreloadingStrategy.NONE, null));
+            Thread.sleep(200);
+            loadReleased.countDown();
+
+            for (Future<Network> future : List.of(first, second)) {
+                assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(ResponseStatusException.class);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(networkStoreService, times(1)).getNetwork(NETWORK_UUID, PreloadingStrategy.NONE);
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.assertj.core.api.WithAssertions;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.InfoTypeParameters;
+import org.gridsuite.network.map.dto.definition.generator.GeneratorTabInfos;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Reads several variants of the same network from many threads, with the network cache enabled, and checks that each
+ * request only sees the values of its own variant.
+ */
+@SpringBootTest(properties = "network-map.cache.enabled=true")
+class NetworkMapServiceConcurrencyTest implements WithAssertions {
+    private static final UUID NETWORK_UUID = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+    private static final String GENERATOR_ID = "GEN";
+    private static final int VARIANT_COUNT = 4;
+    private static final int REQUEST_COUNT = 400;
+
+    @MockitoBean
+    private NetworkStoreService networkStoreService;
+
+    @Autowired
+    private NetworkMapService networkMapService;
+
+    @Autowired
+    private NetworkCache networkCache;
+
+    @AfterEach
+    void tearDown() {
+        networkCache.evictAll();
+    }
+
+    private static String getVariantId(int variantNum) {
+        return variantNum < VARIANT_COUNT ? "variant_" + variantNum : null;
+    }
+
+    private static double getTargetP(int variantNum) {
+        return variantNum < VARIANT_COUNT ? 100. + variantNum : 607.;
+    }
+
+    /**
+     * Each call returns a new instance, as the network store does.
+     */
+    private static Network createNetwork() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        for (int variantNum = 0; variantNum < VARIANT_COUNT; variantNum++) {
+            network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, getVariantId(variantNum));
+            network.getVariantManager().setWorkingVariant(getVariantId(variantNum));
+            network.getGenerator(GENERATOR_ID).setTargetP(getTargetP(variantNum));
+        }
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        return network;
+    }
+
+    @Test
+    void shouldReadVariantsConcurrentlyWithoutLeakage() throws Exception {
+        given(networkStoreService.getNetwork(eq(NETWORK_UUID), any(PreloadingStrategy.class))).willAnswer(invocation -> createNetwork());
+
+        List<Callable<Void>> requests = IntStream.range(0, REQUEST_COUNT).mapToObj(requestNum -> (Callable<Void>) () -> {
+            // the initial variant is read too, without variant id
+            int variantNum = requestNum % (VARIANT_COUNT + 1);
+            String variantId = getVariantId(variantNum);
+            switch (requestNum % 3) {
+                case 0 -> {
+                    ElementInfos infos = networkMapService.getElementInfos(NETWORK_UUID, variantId, ElementType.GENERATOR, InfoTypeParameters.TAB, GENERATOR_ID);
+                    assertThat(((GeneratorTabInfos) infos).getTargetP()).isEqualTo(getTargetP(variantNum));
+                }
+                case 1 -> {
+                    List<ElementInfos> infos = networkMapService.getElementsInfos(NETWORK_UUID, variantId, List.of(), ElementType.GENERATOR, InfoTypeParameters.TAB, null);
+                    assertThat(infos).singleElement()
+                            .extracting(generatorInfos -> ((GeneratorTabInfos) generatorInfos).getTargetP())
+                            .isEqualTo(getTargetP(variantNum));
+                }
+                default -> {
+                    // evictions force concurrent reloads of the variants being read
+                    if (requestNum % 30 == 2) {
+                        networkMapService.evictNetwork(NETWORK_UUID, variantId);
+                    }
+                    ElementInfos infos = networkMapService.getElementInfos(NETWORK_UUID, variantId, ElementType.GENERATOR, InfoTypeParameters.TAB, GENERATOR_ID);
+                    assertThat(((GeneratorTabInfos) infos).getTargetP()).isEqualTo(getTargetP(variantNum));
+                }
+            }
+            return null;
+        }).toList();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        try {
+            for (Future<Void> future : executorService.invokeAll(requests, 1, TimeUnit.MINUTES)) {
+                // rethrows the assertion errors of the requests
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.gridsuite.network.map.AbstractCachedNetworkTest;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.InfoTypeParameters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Checks that the infos of the elements serialized concurrently are the same, and in the same order, as the ones
+ * serialized sequentially.
+ */
+class NetworkMapServiceParallelMappingTest extends AbstractCachedNetworkTest {
+    private static final UUID LARGE_NETWORK_UUID = UUID.fromString("a2f4c6e8-1b3d-4f5a-8c7e-9d0b2a4c6e8f");
+
+    private static final int LARGE_NETWORK_VOLTAGE_LEVEL_COUNT = 300;
+
+    @Autowired
+    private NetworkMapService networkMapService;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private AnnotationConfigApplicationContext sequentialContext;
+
+    private NetworkMapService sequentialNetworkMapService;
+
+    @Override
+    protected Network createNetwork() {
+        return EurostagTutorialExample1Factory.createWithMoreGenerators(new NetworkFactoryImpl());
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(networkStoreService.getNetwork(eq(LARGE_NETWORK_UUID), any(PreloadingStrategy.class)))
+                .willAnswer(invocation -> createLargeNetwork());
+
+        // the service of the test context with the parallel mapping disabled, its other beans being the ones of the test context
+        sequentialContext = new AnnotationConfigApplicationContext();
+        sequentialContext.setParent(applicationContext);
+        sequentialContext.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("sequential-mapping", Map.of("network-map.parallel-mapping.enabled", false)));
+        sequentialContext.register(ParallelMapper.class, NetworkMapService.class);
+        sequentialContext.refresh();
+        sequentialNetworkMapService = sequentialContext.getBean(NetworkMapService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sequentialContext.close();
+    }
+
+    private Function<ElementInfos, byte[]> getSerializer(Set<String> threads) {
+        return elementInfos -> {
+            threads.add(Thread.currentThread().getName());
+            try {
+                return objectMapper.writeValueAsBytes(elementInfos);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private static List<String> toStrings(List<byte[]> fragments) {
+        return fragments.stream().map(fragment -> new String(fragment, StandardCharsets.UTF_8)).toList();
+    }
+
+    @Test
+    void shouldSerializeElementsInfosConcurrently() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<String> fragments = toStrings(networkMapService.getElementsFragments(LARGE_NETWORK_UUID, null, List.of(), ElementType.LINE,
+                InfoTypeParameters.TAB, null, getSerializer(threads)));
+        // the elements are mapped on the request thread, only their infos are serialized by the parallel mapper
+        assertThat(threads).anyMatch(thread -> thread.startsWith("parallel-mapper-"));
+
+        elementFragmentCache.invalidateAll();
+        Set<String> sequentialThreads = ConcurrentHashMap.newKeySet();
+        assertThat(fragments).isEqualTo(toStrings(sequentialNetworkMapService.getElementsFragments(LARGE_NETWORK_UUID, null, List.of(), ElementType.LINE,
+                InfoTypeParameters.TAB, null, getSerializer(sequentialThreads))));
+        assertThat(sequentialThreads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void shouldSerializeAllElementsInfosConcurrently() {
+        Map<ElementType, List<byte[]>> sections = networkMapService.getAllElementsFragments(NETWORK_UUID, null, List.of(), List.of(), Map.of(),
+                getSerializer(ConcurrentHashMap.newKeySet()));
+        elementFragmentCache.invalidateAll();
+        Map<ElementType, List<byte[]>> sequentialSections = sequentialNetworkMapService.getAllElementsFragments(NETWORK_UUID, null, List.of(), List.of(), Map.of(),
+                getSerializer(ConcurrentHashMap.newKeySet()));
+        assertThat(sections.keySet()).containsExactlyElementsOf(sequentialSections.keySet());
+        sections.forEach((elementType, fragments) -> assertThat(toStrings(fragments)).isEqualTo(toStrings(sequentialSections.get(elementType))));
+    }
+
+    /**
+     * A chain of voltage levels, each with its own substation, generator and load, linked by lines.
+     */
+    private static Network createLargeNetwork() {
+        Network network = new NetworkFactoryImpl().createNetwork("large", "test");
+        for (int i = 0; i < LARGE_NETWORK_VOLTAGE_LEVEL_COUNT; i++) {
+            VoltageLevel voltageLevel = network.newSubstation()
+                    .setId("S" + i)
+                    .add()
+                    .newVoltageLevel()
+                    .setId("VL" + i)
+                    .setNominalV(400.0)
+                    .setTopologyKind(TopologyKind.BUS_BREAKER)
+                    .add();
+            voltageLevel.getBusBreakerView().newBus()
+                    .setId("B" + i)
+                    .add();
+            voltageLevel.newGenerator()
+                    .setId("G" + i)
+                    .setBus("B" + i)
+                    .setConnectableBus("B" + i)
+                    .setMinP(0.0)
+                    .setMaxP(100.0)
+                    .setTargetP(50.0)
+                    .setTargetV(voltageLevel.getNominalV())
+                    .setVoltageRegulatorOn(true)
+                    .add();
+            voltageLevel.newLoad()
+                    .setId("L" + i)
+                    .setBus("B" + i)
+                    .setConnectableBus("B" + i)
+                    .setP0(40.0)
+                    .setQ0(10.0)
+                    .add();
+            if (i > 0) {
+                network.newLine()
+                        .setId("LINE" + i)
+                        .setVoltageLevel1("VL" + (i - 1))
+                        .setBus1("B" + (i - 1))
+                        .setConnectableBus1("B" + (i - 1))
+                        .setVoltageLevel2("VL" + i)
+                        // one line in ten is disconnected on its second side
+                        .setBus2(i % 10 == 0 ? null : "B" + i)
+                        .setConnectableBus2("B" + i)
+                        .setR(3.0)
+                        .setX(33.0)
+                        .setG1(0.0)
+                        .setB1(0.0)
+                        .setG2(0.0)
+                        .setB2(0.0)
+                        .add();
+            }
+        }
+        return network;
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.assertj.core.api.WithAssertions;
+import org.gridsuite.network.map.dto.ElementType;
+import org.gridsuite.network.map.dto.ElementsFilter;
+import org.gridsuite.network.map.dto.ElementsIdsQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@ExtendWith(MockitoExtension.class)
+class NetworkSecondaryIndexesTest implements WithAssertions {
+    @Mock
+    private NetworkStoreService networkStoreService;
+
+    private NetworkSecondaryIndexes createIndexes(boolean cacheEnabled) {
+        return new NetworkSecondaryIndexes(new NetworkCache(networkStoreService, cacheEnabled, 10, Duration.ofMinutes(10), Duration.ofHours(1)), true, 10);
+    }
+
+    @Test
+    void shouldFilterVoltageLevelsByNominalVoltage() {
+        NetworkSecondaryIndexes indexes = createIndexes(true);
+        assertThat(indexes.isEnabled()).isTrue();
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+
+        assertThat(indexes.getVoltageLevelsIds(network, List.of(), List.of(380.0))).containsExactlyInAnyOrder("VLHV1", "VLHV2");
+        assertThat(indexes.getVoltageLevelsIds(network, List.of(), List.of(24.0, 150.0, 63.0))).containsExactlyInAnyOrder("VLGEN", "VLLOAD");
+        assertThat(indexes.getVoltageLevelsIds(network, List.of("P2", "P1"), List.of(380.0))).containsExactly("VLHV2", "VLHV1");
+        assertThat(indexes.getVoltageLevelsIds(network, List.of("P1"), List.of(150.0))).isEmpty();
+        // unknown substations are left to the callers
+        assertThat(indexes.getVoltageLevelsIds(network, List.of("P1", "UNKNOWN"), List.of(380.0))).isNull();
+    }
+
+    @Test
+    void shouldFilterSubstationsByNominalVoltage() {
+        NetworkSecondaryIndexes indexes = createIndexes(true);
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+
+        assertThat(indexes.getSubstationsIds(network, List.of(), List.of(24.0))).containsExactly("P1");
+        assertThat(indexes.getSubstationsIds(network, List.of(), List.of(380.0))).containsExactlyInAnyOrder("P1", "P2");
+        assertThat(indexes.getSubstationsIds(network, List.of("P2"), List.of(24.0))).isEmpty();
+        assertThat(indexes.getCountries(network)).containsExactlyInAnyOrder(Country.FR, Country.BE);
+        assertThat(indexes.getNominalVoltages(network)).containsExactlyInAnyOrder(24.0, 380.0, 150.0);
+    }
+
+    @Test
+    void shouldIndexEachNetworkInstance() {
+        NetworkSecondaryIndexes indexes = createIndexes(true);
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        assertThat(indexes.getVoltageLevelsIds(network, List.of(), List.of(150.0))).containsExactly("VLLOAD");
+
+        // a new instance of the network is indexed again
+        Network changedNetwork = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        changedNetwork.getVoltageLevel("VLLOAD").setNominalV(225.0);
+        assertThat(indexes.getVoltageLevelsIds(changedNetwork, List.of(), List.of(150.0))).isEmpty();
+        assertThat(indexes.getVoltageLevelsIds(network, List.of(), List.of(150.0))).containsExactly("VLLOAD");
+    }
+
+    @Test
+    void shouldQueryElementsIds() {
+        NetworkSecondaryIndexes indexes = createIndexes(true);
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+
+        // the elements of a type with a voltage level in France, or in P2 and at 150 kV
+        ElementsIdsQuery query = new ElementsIdsQuery(List.of(
+                new ElementsFilter(List.of(ElementType.LINE, ElementType.TWO_WINDINGS_TRANSFORMER, ElementType.LOAD), null, List.of(Country.FR), null),
+                new ElementsFilter(List.of(ElementType.LOAD), List.of("P2", "UNKNOWN"), null, List.of(150.0))), null);
+        assertThat(indexes.getElementsIds(network, query, elementType -> getElements(network, elementType))).containsExactly(
+                Map.entry(ElementType.LINE, List.of("NHV1_NHV2_1", "NHV1_NHV2_2")),
+                Map.entry(ElementType.LOAD, List.of("LOAD")),
+                Map.entry(ElementType.TWO_WINDINGS_TRANSFORMER, List.of("NGEN_NHV1")));
+
+        // minus the elements at 24 kV, and all the lines
+        query.setExcluded(List.of(new ElementsFilter(List.of(ElementType.TWO_WINDINGS_TRANSFORMER), null, null, List.of(24.0)),
+                new ElementsFilter(List.of(ElementType.LINE, ElementType.GENERATOR), null, null, null)));
+        assertThat(indexes.countElements(network, query, elementType -> getElements(network, elementType))).containsExactly(
+                Map.entry(ElementType.LINE, 0),
+                Map.entry(ElementType.LOAD, 1),
+                Map.entry(ElementType.TWO_WINDINGS_TRANSFORMER, 0));
+    }
+
+    @Test
+    void shouldQueryElementsIdsWithoutNetworkCache() {
+        NetworkSecondaryIndexes indexes = createIndexes(false);
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+
+        ElementsIdsQuery query = new ElementsIdsQuery(List.of(new ElementsFilter(List.of(ElementType.GENERATOR, ElementType.VOLTAGE_LEVEL), null, null, List.of(24.0))), null);
+        assertThat(indexes.getElementsIds(network, query, elementType -> getElements(network, elementType))).containsExactly(
+                Map.entry(ElementType.VOLTAGE_LEVEL, List.of("VLGEN")),
+                Map.entry(ElementType.GENERATOR, List.of("GEN")));
+    }
+
+    private static Stream<? extends Identifiable<?>> getElements(Network network, ElementType elementType) {
+        return switch (elementType) {
+            case VOLTAGE_LEVEL -> network.getVoltageLevelStream();
+            case LINE -> network.getLineStream();
+            case TWO_WINDINGS_TRANSFORMER -> network.getTwoWindingsTransformerStream();
+            case GENERATOR -> network.getGeneratorStream();
+            case LOAD -> network.getLoadStream();
+            default -> throw new IllegalArgumentException(elementType.name());
+        };
+    }
+
+    @Test
+    void shouldBeDisabledWithoutNetworkCache() {
+        assertThat(createIndexes(false).isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import org.assertj.core.api.WithAssertions;
+import org.gridsuite.network.map.dto.ElementInfos;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+class ParallelMapperTest implements WithAssertions {
+    private static final List<ElementInfos> ELEMENTS = IntStream.range(0, 1000)
+            .mapToObj(i -> ElementInfos.builder().id("E" + i).build())
+            .toList();
+
+    private ParallelMapper parallelMapper;
+
+    @AfterEach
+    void tearDown() {
+        if (parallelMapper != null) {
+            parallelMapper.shutdown();
+        }
+    }
+
+    private Set<String> mapAndGetThreads(List<ElementInfos> elements) {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<String> results = parallelMapper.map(elements, element -> {
+            threads.add(Thread.currentThread().getName());
+            return element.getId();
+        });
+        assertThat(results).isEqualTo(elements.stream().map(ElementInfos::getId).toList());
+        return threads;
+    }
+
+    @Test
+    void shouldMapInOrderOnSeveralThreads() {
+        parallelMapper = new ParallelMapper(true, 100, 4);
+        assertThat(mapAndGetThreads(ELEMENTS)).anyMatch(thread -> thread.startsWith("parallel-mapper-"));
+    }
+
+    @Test
+    void shouldMapOnRequestThread() {
+        String requestThread = Thread.currentThread().getName();
+
+        parallelMapper = new ParallelMapper(true, 100, 4);
+        // small requests
+        assertThat(mapAndGetThreads(ELEMENTS.subList(0, 99))).containsExactly(requestThread);
+        assertThat(mapAndGetThreads(List.of())).isEmpty();
+        parallelMapper.shutdown();
+
+        parallelMapper = new ParallelMapper(false, 100, 4);
+        assertThat(mapAndGetThreads(ELEMENTS)).containsExactly(requestThread);
+    }
+
+    @Test
+    void shouldRethrowMappingException() {
+        parallelMapper = new ParallelMapper(true, 100, 4);
+        assertThatThrownBy(() -> parallelMapper.map(ELEMENTS, element -> {
+            if (element.getId().equals("E500")) {
+                throw new IllegalStateException("element " + element.getId());
+            }
+            return element;
+        })).isInstanceOf(IllegalStateException.class).hasMessage("element E500");
+    }
+}
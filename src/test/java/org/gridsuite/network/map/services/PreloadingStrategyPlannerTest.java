@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.network.map.services;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.assertj.core.api.WithAssertions;
+import org.gridsuite.network.map.dto.ElementInfos.InfoType;
+import org.gridsuite.network.map.dto.ElementType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+class PreloadingStrategyPlannerTest implements WithAssertions {
+    private static final UUID NETWORK_UUID = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    private final PreloadingStrategyPlanner planner = new PreloadingStrategyPlanner(1.0, 0.4, 1000, 1.5);
+
+    /**
+     * A network with one large substation of 40 voltage levels and 20 substations of 1 voltage level.
+     */
+    private static Network createNetwork() {
+        Network network = new NetworkFactoryImpl().createNetwork("test", "test");
+        addSubstation(network, "BIG", 40);
+        IntStream.range(0, 20).forEach(i -> addSubstation(network, "SMALL" + i, 1));
+        return network;
+    }
+
+    private static void addSubstation(Network network, String id, int voltageLevelCount) {
+        Substation substation = network.newSubstation().setId(id).add();
+        IntStream.range(0, voltageLevelCount).forEach(i -> substation.newVoltageLevel()
+                .setId(id + "_VL" + i)
+                .setNominalV(400.)
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add());
+    }
+
+    @Test
+    void shouldPreloadWholeNetwork() {
+        assertThat(planner.plan(NETWORK_UUID, List.of(ElementType.GENERATOR), InfoType.TAB, List.of(), false))
+                .isEqualTo(PreloadingStrategy.COLLECTION);
+        assertThat(planner.plan(NETWORK_UUID, List.of(ElementType.GENERATOR, ElementType.LOAD), InfoType.TAB, List.of(), false))
+                .isEqualTo(PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW);
+    }
+
+    @Test
+    void shouldPreloadForBusView() {
+        assertThat(planner.plan(NETWORK_UUID, List.of(ElementType.BUS, ElementType.LOAD), InfoType.TAB, List.of("P1"), true))
+                .isEqualTo(PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW);
+    }
+
+    @Test
+    void shouldUseDefaultSizesForUnknownNetwork() {
+        assertThat(planner.isNetworkSizeKnown(NETWORK_UUID)).isFalse();
+        assertThat(planner.plan(NETWORK_UUID, List.of(ElementType.LINE), InfoType.MAP, List.of("P1", "P2"), false))
+                .isEqualTo(PreloadingStrategy.NONE);
+        List<String> manySubstations = IntStream.range(0, 500).mapToObj(i -> "P" + i).toList();
+        assertThat(planner.plan(NETWORK_UUID, List.of(ElementType.LINE), InfoType.MAP, manySubstations, false))
+                .isEqualTo(PreloadingStrategy.COLLECTION);
+    }
+
+    @Test
+    void shouldWeighSubstationsByTheirLearnedSize() {
+        planner.learnNetworkSize(NETWORK_UUID, createNetwork());
+        assertThat(planner.isNetworkSizeKnown(NETWORK_UUID)).isTrue();
+
+        // one large substation is more expensive to load element by element than preloading the whole collection...
+        assertThat(planner.plan(NETWORK_UUID, List.of(ElementType.GENERATOR), InfoType.TAB, List.of("BIG"), false))
+                .isEqualTo(PreloadingStrategy.COLLECTION);
+        // ... whereas 10 small ones are not
+        List<String> smallSubstations = IntStream.range(0, 10).mapToObj(i -> "SMALL" + i).toList();
+        assertThat(planner.plan(NETWORK_UUID, List.of(ElementType.GENERATOR), InfoType.TAB, smallSubstations, false))
+                .isEqualTo(PreloadingStrategy.NONE);
+    }
+
+    @Test
+    void shouldPreloadForManyIds() {
+        planner.learnNetworkSize(NETWORK_UUID, createNetwork());
+
+        // a few elements are fetched one by one...
+        assertThat(planner.planIdsLookup(NETWORK_UUID, ElementType.GENERATOR, InfoType.TAB, 10))
+                .isEqualTo(PreloadingStrategy.NONE);
+        // ... whereas many elements are fetched with their whole collection
+        assertThat(planner.planIdsLookup(NETWORK_UUID, ElementType.GENERATOR, InfoType.TAB, 100))
+                .isEqualTo(PreloadingStrategy.COLLECTION);
+        // the elements of unknown types may be in all the collections
+        assertThat(planner.planIdsLookup(NETWORK_UUID, Map.of(ElementType.LOAD, 50), 50, InfoType.TAB))
+                .isEqualTo(PreloadingStrategy.NONE);
+        assertThat(planner.planIdsLookup(NETWORK_UUID, Map.of(ElementType.LOAD, 50, ElementType.LINE, 50), 0, InfoType.TAB))
+                .isEqualTo(PreloadingStrategy.COLLECTION);
+        // the buses always need the bus view of the whole network
+        assertThat(planner.planIdsLookup(NETWORK_UUID, ElementType.BUS, InfoType.TAB, 1))
+                .isEqualTo(PreloadingStrategy.COLLECTION);
+    }
+}